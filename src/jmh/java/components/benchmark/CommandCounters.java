@@ -0,0 +1,29 @@
+package components.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reports the remote commands sent by the last action measured, next to its latency
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class CommandCounters {
+    public long commands;
+
+    @Setup(Level.Iteration)
+    public void clean() {
+        commands = 0;
+    }
+
+    /**
+     * @param session Session where the action was performed
+     * @param before  Commands received by the session before the action
+     */
+    public void record(StubSession session, long before) {
+        commands = session.commands() - before;
+    }
+}
@@ -0,0 +1,80 @@
+package components.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency, the remote commands ("commands" counter) and the allocations ("-prof gc") of every action
+ * against a StubWebDriver, with and without simulated latency per command
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControlBenchmark {
+    private static final List<String> CHECK_BOXES = List.of("//li[1]/input", "//li[2]/input", "//li[3]/input");
+    private boolean reportTab = false;
+
+    @Benchmark
+    public void click(StubSession session, CommandCounters counters) {
+        long before = session.commands();
+        session.button.click();
+        counters.record(session, before);
+    }
+
+    @Benchmark
+    public void setText(StubSession session, CommandCounters counters) {
+        long before = session.commands();
+        session.text.setText("Selenium Control");
+        counters.record(session, before);
+    }
+
+    @Benchmark
+    public void selectElement(StubSession session, CommandCounters counters) {
+        long before = session.commands();
+        session.select.selectElement("Argentina");
+        counters.record(session, before);
+    }
+
+    @Benchmark
+    public void selectCheckBox(StubSession session, CommandCounters counters) {
+        long before = session.commands();
+        session.select.selectCheckBox(CHECK_BOXES);
+        counters.record(session, before);
+    }
+
+    @Benchmark
+    public boolean selectCheckBoxBatch(StubSession session, CommandCounters counters) {
+        long before = session.commands();
+        boolean checked = session.select.selectCheckBoxBatch(CHECK_BOXES);
+        counters.record(session, before);
+        return checked;
+    }
+
+    @Benchmark
+    public void waitForModal(StubSession session, CommandCounters counters) {
+        long before = session.commands();
+        session.page.waitForModal("//div[@class='modal']", 5);
+        counters.record(session, before);
+    }
+
+    @Benchmark
+    public void switchToTab(StubSession session, CommandCounters counters) {
+        reportTab = !reportTab;
+        long before = session.commands();
+        session.page.switchToTab(reportTab ? "Report" : "Main");
+        counters.record(session, before);
+    }
+}
@@ -0,0 +1,62 @@
+package components.benchmark;
+
+import components.Locator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the client side of a lookup building By.xpath on every action ("before") against the precompiled and
+ * rewritten By of a Locator ("after"), with the remote commands of every lookup ("commands" counter). The stub answers
+ * every strategy alike, the browser evaluation of CSS or id against xPath is only measured with a real browser
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocatorBenchmark {
+    @Param({"//*[@id='save']", "//button[@class='save']", "//div[2]/button[text()='Save']"})
+    public String xPath;
+    private Locator locator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        locator = Locator.xpath(xPath);
+    }
+
+    @Benchmark
+    public WebElement lookupBefore(StubSession session, CommandCounters counters) {
+        long before = session.commands();
+        WebElement webElement = session.webDriver.findElement(By.xpath(xPath));
+        counters.record(session, before);
+        return webElement;
+    }
+
+    @Benchmark
+    public WebElement lookupAfter(StubSession session, CommandCounters counters) {
+        long before = session.commands();
+        WebElement webElement = session.webDriver.findElement(locator.getBy());
+        counters.record(session, before);
+        return webElement;
+    }
+
+    @Benchmark
+    public Locator compile() {
+        return Locator.xpath(xPath);
+    }
+}
@@ -0,0 +1,87 @@
+package components.benchmark;
+
+import components.DriverContext;
+import components.Page;
+import components.control.ButtonControl;
+import components.control.SelectControl;
+import components.control.TextControl;
+import components.stub.StubWebDriver;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Session of a StubWebDriver that answers the scripts of the library as a page where every Element is found,
+ * displayed and enabled
+ */
+@State(Scope.Thread)
+public class StubSession {
+    @Param({"0", "500"})
+    public long latencyMicros;
+    public StubWebDriver stub;
+    public WebDriver webDriver;
+    public StubPage page;
+    public ButtonControl button;
+    public TextControl text;
+    public SelectControl select;
+
+    /**
+     * Page without views, only used to reach the Page actions
+     */
+    public static final class StubPage extends Page {
+        public StubPage(WebDriver webDriver) {
+            super(webDriver);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stub = new StubWebDriver();
+        stub.setLatency(Duration.ofNanos(latencyMicros * 1000));
+        stub.addWindow("report", "Report");
+        stub.onScript(this::answer);
+        webDriver = stub.getWebDriver();
+        page = new StubPage(webDriver);
+        button = new ButtonControl(webDriver, "//button[@id='save']");
+        text = new TextControl(webDriver, "//input[@id='name']");
+        select = new SelectControl(webDriver, "//select[@id='country']");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DriverContext.release(webDriver);
+    }
+
+    /**
+     * @return Returns the remote commands received so far
+     */
+    public long commands() {
+        return stub.getCommandCount();
+    }
+
+    private Object answer(String script, List<Object> args) {
+        if (script.contains("__controlReadiness") || script.contains("select.options")) {
+            return true;
+        }
+        if (script.contains("document.title")) {
+            return List.of(stub.getCurrentTitle(), "https://stub/" + stub.getCurrentHandle());
+        }
+        if (script.contains("isChecked")) {
+            int size = ((List<?>) args.get(0)).size();
+            boolean toggle = Boolean.TRUE.equals(args.get(2));
+            return Map.of("next", toggle ? size : 0, "displayed", toggle,
+                    "checked", new ArrayList<>(Collections.nCopies(size, toggle)));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package services.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import services.DateService;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the DateService against its former SimpleDateFormat and Calendar implementation, kept here as "legacy"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateServiceBenchmark {
+    private static final int RANGE_DAYS = 30;
+    @Param({"MM/dd/yyyy", "yyyy-MM-dd'T'HH:mm:ss.SSSZ"})
+    public String format;
+    private final Date date = new Date();
+
+    @Benchmark
+    public String formatLegacy() {
+        return new SimpleDateFormat(format).format(date);
+    }
+
+    @Benchmark
+    public String formatCurrent() {
+        return DateService.getDateTimeFormat(date, format);
+    }
+
+    @Benchmark
+    public String offsetLegacy() {
+        return legacyDateOffset(7, format);
+    }
+
+    @Benchmark
+    public String offsetCurrent() {
+        return DateService.getDateOffset(7, format);
+    }
+
+    @Benchmark
+    public List<String> rangeLegacy() {
+        List<String> dates = new ArrayList<>(RANGE_DAYS);
+        for (int i = 0; i < RANGE_DAYS; i++) {
+            dates.add(legacyDateOffset(i, format));
+        }
+        return dates;
+    }
+
+    @Benchmark
+    public List<String> rangeCurrent() {
+        return DateService.getDateRange(0, RANGE_DAYS, format);
+    }
+
+    private static String legacyDateOffset(int daysOffset, String format) {
+        Calendar cal = Calendar.getInstance();
+        cal.add(Calendar.DAY_OF_YEAR, daysOffset);
+        return new SimpleDateFormat(format).format(cal.getTime());
+    }
+}
@@ -0,0 +1,352 @@
+package components;
+
+import components.metrics.ActionMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public final class ActionBatch {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String PREPARE_SCRIPT = """
+            var elements = arguments[0], clear = arguments[1], scroll = arguments[2], inView = [];
+            for (var i = 0; i < clear.length; i++) {
+                var field = elements[clear[i]];
+                if (field.value !== undefined && field.value !== '') {
+                    var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(field), 'value');
+                    if (descriptor && descriptor.set) {
+                        descriptor.set.call(field, '');
+                    } else {
+                        field.value = '';
+                    }
+                    field.dispatchEvent(new Event('input', {bubbles: true}));
+                    field.dispatchEvent(new Event('change', {bubbles: true}));
+                }
+            }
+            if (scroll >= 0) {
+                elements[scroll].scrollIntoView({block: 'center', inline: 'center'});
+            }
+            var height = window.innerHeight || document.documentElement.clientHeight;
+            var width = window.innerWidth || document.documentElement.clientWidth;
+            for (var j = 0; j < elements.length; j++) {
+                var rect = elements[j].getBoundingClientRect();
+                inView.push(rect.top >= 0 && rect.left >= 0 && rect.bottom <= height && rect.right <= width);
+            }
+            return inView;
+            """;
+    private static final String LOCATE_DISPLAYED_SCRIPT = """
+            var xPaths = arguments[0], cssSelectors = arguments[1], elements = [];
+            for (var i = 0; i < xPaths.length; i++) {
+                var element = null;
+                if (xPaths[i] !== null) {
+                    element = document.evaluate(xPaths[i], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                } else if (cssSelectors[i] !== null) {
+                    element = document.querySelector(cssSelectors[i]);
+                }
+                var displayed = element !== null && element.getClientRects().length > 0
+                        && window.getComputedStyle(element).visibility !== 'hidden' && !element.disabled;
+                elements.push(displayed ? element : null);
+            }
+            return elements;
+            """;
+    private static final String READ_VALUES_SCRIPT = """
+            var elements = arguments[0], values = [];
+            for (var i = 0; i < elements.length; i++) {
+                values.push(elements[i].value === undefined ? elements[i].textContent : elements[i].value);
+            }
+            return values;
+            """;
+    private final WebDriver webDriver;
+    private final List<Step> steps = new ArrayList<>();
+    private final List<Expectation> expectations = new ArrayList<>();
+
+    private enum StepType {HOVER, CLICK, DOUBLE_CLICK, RIGHT_CLICK, TYPE, SEND_KEYS, DRAG_AND_DROP}
+
+    /**
+     * @param webDriver WebDriver base Definition, shared by every Control in the batch
+     */
+    public ActionBatch(WebDriver webDriver) {
+        this.webDriver = webDriver;
+    }
+
+    /**
+     * @param control Control to put the mouse above
+     * @return Returns the same batch to keep recording
+     */
+    public ActionBatch hover(Control control) {
+        return add(new Step(StepType.HOVER, control, null, null));
+    }
+
+    /**
+     * @param control Control to "Click"
+     * @return Returns the same batch to keep recording
+     */
+    public ActionBatch click(Control control) {
+        return add(new Step(StepType.CLICK, control, null, null));
+    }
+
+    /**
+     * @param control Control to "Double Click"
+     * @return Returns the same batch to keep recording
+     */
+    public ActionBatch doubleClick(Control control) {
+        return add(new Step(StepType.DOUBLE_CLICK, control, null, null));
+    }
+
+    /**
+     * @param control Control to "Right Click"
+     * @return Returns the same batch to keep recording
+     */
+    public ActionBatch rightClick(Control control) {
+        return add(new Step(StepType.RIGHT_CLICK, control, null, null));
+    }
+
+    /**
+     * Cleans the text of the Control and writes the value, the last value typed in the Control is verified when the
+     * batch is performed
+     *
+     * @param control Control where the text will be written
+     * @param value   Is the text value to be written
+     * @return Returns the same batch to keep recording
+     */
+    public ActionBatch type(Control control, String value) {
+        expectations.removeIf(expectation -> expectation.control == control);
+        expectations.add(new Expectation(control, value));
+        return add(new Step(StepType.TYPE, control, null, value));
+    }
+
+    /**
+     * @param control Control that receives the keys
+     * @param keys    Keys or texts to send without cleaning the Control
+     * @return Returns the same batch to keep recording
+     */
+    public ActionBatch sendKeys(Control control, CharSequence... keys) {
+        return add(new Step(StepType.SEND_KEYS, control, null, keys));
+    }
+
+    /**
+     * @param source Control to be dragged
+     * @param target Control where the source will be dropped
+     * @return Returns the same batch to keep recording
+     */
+    public ActionBatch dragAndDrop(Control source, Control target) {
+        return add(new Step(StepType.DRAG_AND_DROP, source, target, null));
+    }
+
+    /**
+     * @param control       Control to verify when the batch is performed
+     * @param expectedValue Value or text the Control must contain at the end
+     * @return Returns the same batch to keep recording
+     */
+    public ActionBatch expect(Control control, String expectedValue) {
+        expectations.add(new Expectation(control, expectedValue));
+        return this;
+    }
+
+    /**
+     * Performs the steps with as few W3C Actions as possible. Every chain locates the Controls already displayed with one
+     * script, and it ends before the first step whose Control isn't displayed yet (Example: the item of a menu opened by
+     * a hover), that Control is waited for once the chain is performed. The typed Controls of a chain are cleaned with
+     * one script, a Control typed again starts a new chain so every "type" replaces the text, and a new chain is also
+     * started when an Element is outside the view. The Wait Policies of the Controls are not applied inside the batch
+     *
+     * @return Returns "True" if every expected value is contained by its Control at the end, checked with one script
+     */
+    public boolean perform() {
+        return ActionMetrics.measure(getClass().getSimpleName(), "perform", () -> {
+            Map<Control, WebElement> elements = new IdentityHashMap<>();
+            try {
+                int next = 0;
+                while (next < steps.size()) {
+                    next = performChain(next, elements);
+                }
+                return verify(elements);
+            } catch (StaleElementReferenceException ex) {
+                elements.keySet().forEach(Control::invalidateElement);
+                throw ex;
+            }
+        });
+    }
+
+    private ActionBatch add(Step step) {
+        steps.add(step);
+        return this;
+    }
+
+    /**
+     * @param first    Index of the first step of the chain
+     * @param elements Elements already located by Control
+     * @return Returns the index of the first step outside the chain
+     */
+    private int performChain(int first, Map<Control, WebElement> elements) {
+        locateDisplayed(first, elements);
+        Set<Control> typed = Collections.newSetFromMap(new IdentityHashMap<>());
+        int end = first;
+        do {
+            Step step = steps.get(end);
+            elements.computeIfAbsent(step.control, Control::getElement);
+            if (step.target != null) {
+                elements.computeIfAbsent(step.target, Control::getElement);
+            }
+            if (step.type == StepType.TYPE) {
+                typed.add(step.control);
+            }
+            end++;
+        } while (end < steps.size() && isLocated(steps.get(end), elements) && !isTypedAgain(steps.get(end), typed));
+        Map<Control, Integer> indexes = new IdentityHashMap<>();
+        List<WebElement> chainElements = new ArrayList<>();
+        List<Integer> clear = new ArrayList<>();
+        for (Step step : steps.subList(first, end)) {
+            int index = indexOf(step.control, elements, indexes, chainElements);
+            if (step.target != null) {
+                indexOf(step.target, elements, indexes, chainElements);
+            }
+            if (step.type == StepType.TYPE) {
+                clear.add(index);
+            }
+        }
+        List<?> inView = prepare(chainElements, clear, -1);
+        Actions actions = new Actions(webDriver);
+        boolean pending = false;
+        for (Step step : steps.subList(first, end)) {
+            int index = indexes.get(step.control);
+            boolean targetInView = step.target == null || Boolean.TRUE.equals(inView.get(indexes.get(step.target)));
+            if (!Boolean.TRUE.equals(inView.get(index)) || !targetInView) {
+                if (pending) {
+                    actions.perform();
+                    actions = new Actions(webDriver);
+                    pending = false;
+                }
+                inView = prepare(chainElements, List.of(), index);
+            }
+            append(actions, step, chainElements.get(index), step.target == null ? null : chainElements.get(indexes.get(step.target)));
+            pending = true;
+        }
+        if (pending) {
+            actions.perform();
+        }
+        return end;
+    }
+
+    /**
+     * Locates with one script the Controls of the remaining steps that are displayed and enabled at this point, the
+     * Controls with chained Locators are left to their own lookup
+     */
+    private void locateDisplayed(int first, Map<Control, WebElement> elements) {
+        Set<Control> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Step step : steps.subList(first, steps.size())) {
+            for (Control control : new Control[]{step.control, step.target}) {
+                if (control != null && !elements.containsKey(control)
+                        && (control.locator.getScriptXPath() != null || control.locator.getScriptCssSelector() != null)) {
+                    pending.add(control);
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Control> controls = new ArrayList<>(pending);
+        List<String> xPaths = new ArrayList<>(controls.size());
+        List<String> cssSelectors = new ArrayList<>(controls.size());
+        for (Control control : controls) {
+            xPaths.add(control.locator.getScriptXPath());
+            cssSelectors.add(control.locator.getScriptCssSelector());
+        }
+        List<?> located = (List<?>) ((JavascriptExecutor) webDriver).executeScript(LOCATE_DISPLAYED_SCRIPT, xPaths, cssSelectors);
+        for (int i = 0; i < controls.size(); i++) {
+            if (located.get(i) instanceof WebElement element) {
+                elements.put(controls.get(i), element);
+            }
+        }
+    }
+
+    private static boolean isLocated(Step step, Map<Control, WebElement> elements) {
+        return elements.containsKey(step.control) && (step.target == null || elements.containsKey(step.target));
+    }
+
+    /**
+     * The typed Controls are cleaned when their chain starts, so a Control typed again starts a new chain to replace the
+     * text written before
+     */
+    private static boolean isTypedAgain(Step step, Set<Control> typed) {
+        return step.type == StepType.TYPE && typed.contains(step.control);
+    }
+
+    private static int indexOf(Control control, Map<Control, WebElement> elements, Map<Control, Integer> indexes,
+                               List<WebElement> chainElements) {
+        return indexes.computeIfAbsent(control, key -> {
+            chainElements.add(elements.get(key));
+            return chainElements.size() - 1;
+        });
+    }
+
+    private List<?> prepare(List<WebElement> elements, List<Integer> clear, int scroll) {
+        return (List<?>) ((JavascriptExecutor) webDriver).executeScript(PREPARE_SCRIPT, elements, clear, scroll);
+    }
+
+    private static void append(Actions actions, Step step, WebElement element, WebElement target) {
+        switch (step.type) {
+            case HOVER -> actions.moveToElement(element);
+            case CLICK -> actions.click(element);
+            case DOUBLE_CLICK -> actions.doubleClick(element);
+            case RIGHT_CLICK -> actions.contextClick(element);
+            case TYPE -> actions.click(element).sendKeys((String) step.value);
+            case SEND_KEYS -> actions.sendKeys(element, (CharSequence[]) step.value);
+            case DRAG_AND_DROP -> actions.dragAndDrop(element, target);
+        }
+    }
+
+    private boolean verify(Map<Control, WebElement> elements) {
+        if (expectations.isEmpty()) {
+            return true;
+        }
+        List<WebElement> expected = new ArrayList<>();
+        for (Expectation expectation : expectations) {
+            expected.add(elements.computeIfAbsent(expectation.control, Control::getElement));
+        }
+        List<?> values = (List<?>) ((JavascriptExecutor) webDriver).executeScript(READ_VALUES_SCRIPT, expected);
+        boolean verified = true;
+        for (int i = 0; i < expectations.size(); i++) {
+            if (!Objects.equals(expectations.get(i).value, values.get(i))) {
+                LOGGER.error("Control doesn't contain the expected value: {}", expectations.get(i).control.xPath);
+                verified = false;
+            }
+        }
+        return verified;
+    }
+
+    private static final class Step {
+        private final StepType type;
+        private final Control control;
+        private final Control target;
+        private final Object value;
+
+        private Step(StepType type, Control control, Control target, Object value) {
+            this.type = type;
+            this.control = control;
+            this.target = target;
+            this.value = value;
+        }
+    }
+
+    private static final class Expectation {
+        private final Control control;
+        private final String value;
+
+        private Expectation(Control control, String value) {
+            this.control = control;
+            this.value = value;
+        }
+    }
+}
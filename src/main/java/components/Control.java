@@ -1,25 +1,83 @@
 package components;
 
+import components.metrics.ActionMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public abstract class Control {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String PRESENCE_SCRIPT = """
+            var xPaths = arguments[0], cssSelectors = arguments[1], present = [];
+            for (var i = 0; i < xPaths.length; i++) {
+                if (xPaths[i] !== null) {
+                    present.push(document.evaluate(xPaths[i], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue !== null);
+                } else if (cssSelectors[i] !== null) {
+                    present.push(document.querySelector(cssSelectors[i]) !== null);
+                } else {
+                    present.push(null);
+                }
+            }
+            return present;
+            """;
+    private static final String SCROLL_SCRIPT = """
+            var element = arguments[0], strategy = arguments[1], rect = element.getBoundingClientRect();
+            var height = window.innerHeight || document.documentElement.clientHeight;
+            var width = window.innerWidth || document.documentElement.clientWidth;
+            var inView = rect.top >= 0 && rect.left >= 0 && rect.bottom <= height && rect.right <= width;
+            var scrolled = strategy === 'ALWAYS' || !inView;
+            if (strategy === 'CENTER' && scrolled) {
+                element.scrollIntoView({block: 'center', inline: 'center'});
+            } else if (scrolled) {
+                element.scrollIntoView(true);
+            }
+            if (scrolled && (arguments[2] !== 0 || arguments[3] !== 0)) {
+                window.scrollBy(arguments[2], arguments[3]);
+            }
+            """;
     protected final WebDriver webDriver;
     protected String xPath;
+    protected final Locator locator;
     protected int xPosition = 0;
     protected int yPosition = 0;
+    protected final DriverContext driverContext;
+    protected final WaitEngine waitEngine;
+    protected WaitPolicy waitPolicy = WaitPolicy.NONE;
+    protected ScrollStrategy scrollStrategy = ScrollStrategy.IF_NEEDED;
+    private long timeOut = -1;
+    private boolean cacheElement = true;
+    private WebElement cachedElement;
+    private RetryPolicy retryPolicy = RetryPolicy.STALE_ONCE;
+    private List<Locator> fallbackLocators = List.of();
 
     /**
      * @param webDriver WebDriver base Definition
      * @param xPath     Base Component xPath to use
      */
     protected Control(WebDriver webDriver, String xPath) {
+        this(webDriver, Locator.xpath(xPath));
+    }
+
+    /**
+     * @param webDriver WebDriver base Definition
+     * @param locator   Base Component Locator to use, its By is compiled once for every action
+     */
+    protected Control(WebDriver webDriver, Locator locator) {
         this.webDriver = webDriver;
-        this.xPath = xPath;
+        this.xPath = locator.toString();
+        this.locator = locator;
+        this.driverContext = DriverContext.of(webDriver);
+        this.waitEngine = driverContext.getWaitEngine();
     }
 
     /**
@@ -37,43 +95,380 @@ public abstract class Control {
     }
 
     /**
-     * @return True or False if the control Exists or Not
+     * @param waitPolicy Defines how to wait before acting on the element (Default: no wait)
+     */
+    public void setWaitPolicy(WaitPolicy waitPolicy) {
+        this.waitPolicy = waitPolicy;
+    }
+
+    /**
+     * @param scrollStrategy Defines how to move the view to the element before acting on it (Default: IF_NEEDED)
+     */
+    public void setScrollStrategy(ScrollStrategy scrollStrategy) {
+        this.scrollStrategy = scrollStrategy;
+    }
+
+    /**
+     * @param autoScroll Enables the option to auto scroll the view to the element when it's outside the view
+     *                   (Default: true)
+     */
+    public void setAutoScroll(boolean autoScroll) {
+        setScrollStrategy(autoScroll ? ScrollStrategy.IF_NEEDED : ScrollStrategy.NONE);
+    }
+
+    /**
+     * @return Returns the Locator of the base Component
+     */
+    public Locator getLocator() {
+        return locator;
+    }
+
+    /**
+     * @param retryPolicy Defines how many times an action is attempted again when it fails with a retryable exception
+     *                    (Default: once when the Element becomes stale)
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Enables the self-healing mode, the Locator that finds the Element is remembered by the Locator Healer and tried
+     * first the next time
+     *
+     * @param fallbackLocators Locators to try when the base Locator doesn't find the Element, in order of preference
+     */
+    public void setFallbackLocators(Locator... fallbackLocators) {
+        this.fallbackLocators = List.of(fallbackLocators);
+        invalidateElement();
+    }
+
+    /**
+     * @param cacheElement Enables the reuse of the last located Element while it stays displayed and enabled (Default: true)
+     */
+    public void setCacheElement(boolean cacheElement) {
+        this.cacheElement = cacheElement;
+        if (!cacheElement) {
+            invalidateElement();
+        }
+    }
+
+    /**
+     * @return True or False if the control Exists or Not, waiting up to the TimeOut of the Control
      */
     public boolean isControlExist() {
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(60));
-        WebElement webElement = wait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(xPath)));
-        return (webElement != null);
+        return measure("isControlExist", () -> {
+            if (cachedElement != null) {
+                try {
+                    cachedElement.isEnabled();
+                    return true;
+                } catch (StaleElementReferenceException ex) {
+                    invalidateElement();
+                }
+            }
+            try {
+                return waitEngine.until(ExpectedConditions.presenceOfElementLocated(locator.getBy()), getTimeOutPolicy()) != null;
+            } catch (TimeoutException ex) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * @return Returns "True" if the control Exists right now, without waiting
+     */
+    public boolean isPresent() {
+        return measure("isPresent", () -> driverContext.getTimeoutGovernor().withoutImplicitWait(() -> !webDriver.findElements(locator.getBy()).isEmpty()));
+    }
+
+    /**
+     * @param timeOut Maximum time to wait until the control Exists
+     * @return Returns "True" if the control Exists before the TimeOut
+     */
+    public boolean waitForPresent(Duration timeOut) {
+        return measure("waitForPresent", () -> {
+            try {
+                return waitEngine.until(driver -> !driver.findElements(locator.getBy()).isEmpty(), WaitPolicy.of(timeOut));
+            } catch (TimeoutException ex) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * @param timeOut Maximum time to wait until the control doesn't Exist
+     * @return Returns "True" if the control doesn't Exist before the TimeOut
+     */
+    public boolean waitForAbsent(Duration timeOut) {
+        return measure("waitForAbsent", () -> {
+            try {
+                boolean absent = waitEngine.until(driver -> driver.findElements(locator.getBy()).isEmpty(), WaitPolicy.of(timeOut));
+                invalidateElement();
+                return absent;
+            } catch (TimeoutException ex) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Checks if every control Exists right now with a single script, the controls with chained Locators are checked
+     * one by one
+     *
+     * @param controls Controls bound to the same WebDriver
+     * @return Returns "True" or "False" for every control, in the same order
+     */
+    public static List<Boolean> arePresent(List<? extends Control> controls) {
+        if (controls.isEmpty()) {
+            return List.of();
+        }
+        WebDriver webDriver = controls.get(0).webDriver;
+        TimeoutGovernor timeoutGovernor = controls.get(0).driverContext.getTimeoutGovernor();
+        List<String> xPaths = new ArrayList<>(controls.size());
+        List<String> cssSelectors = new ArrayList<>(controls.size());
+        for (Control control : controls) {
+            xPaths.add(control.locator.getScriptXPath());
+            cssSelectors.add(control.locator.getScriptCssSelector());
+        }
+        return ActionMetrics.measure(Control.class.getSimpleName(), "arePresent", () -> {
+            List<?> values = (List<?>) ((JavascriptExecutor) webDriver).executeScript(PRESENCE_SCRIPT, xPaths, cssSelectors);
+            List<Boolean> present = new ArrayList<>(controls.size());
+            for (int i = 0; i < controls.size(); i++) {
+                Object value = values.get(i);
+                By by = controls.get(i).locator.getBy();
+                present.add(value != null ? Boolean.TRUE.equals(value) : timeoutGovernor.withoutImplicitWait(() -> !webDriver.findElements(by).isEmpty()));
+            }
+            return present;
+        });
     }
 
     /**
      * @param dropElementXpath place where the base Element xPath will be dropped
      */
     public void dragAndDrop(String dropElementXpath) {
-        Actions actions = new Actions(webDriver);
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(60));
-        WebElement elementSource = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xPath)));
-        WebElement elementTarget = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(dropElementXpath)));
-        ((JavascriptExecutor) webDriver).executeScript("window.scrollBy(" + xPosition + "," + yPosition + ")", "");
-        actions.dragAndDrop(elementSource, elementTarget).build().perform();
+        dragAndDrop(Locator.xpath(dropElementXpath));
+    }
+
+    /**
+     * @param dropElement place where the base Element will be dropped
+     */
+    public void dragAndDrop(Locator dropElement) {
+        measure("dragAndDrop", () -> {
+            WebElement elementTarget = waitEngine.until(ExpectedConditions.elementToBeClickable(dropElement.getBy()), getTimeOutPolicy());
+            actOnElement(elementSource -> {
+                scrollByOffset();
+                new Actions(webDriver).dragAndDrop(elementSource, elementTarget).build().perform();
+            });
+        });
     }
 
     /**
      * Put the mouse Above the predefined xPath
      */
     public void mouseHover() {
-        Actions actions = new Actions(webDriver);
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(60));
-        WebElement elementSource = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xPath)));
-        ((JavascriptExecutor) webDriver).executeScript("window.scrollBy(" + xPosition + "," + yPosition + ")", "");
-        actions.moveToElement(elementSource).build().perform();
+        measure("mouseHover", () -> {
+            actOnElement(elementSource -> {
+                scrollByOffset();
+                new Actions(webDriver).moveToElement(elementSource).build().perform();
+            });
+        });
     }
 
     /**
      * @param keySent stores a Key to send in the predefined Element by xPath
      */
     public void sendkeyToElement(Keys keySent) {
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(60));
-        WebElement elementSource = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xPath)));
-        elementSource.sendKeys(keySent);
+        measure("sendkeyToElement", () -> {
+            actOnElement(elementSource -> elementSource.sendKeys(keySent));
+        });
+    }
+
+    /**
+     * @param action   Name of the action to be measured, nothing is recorded when Action Metrics are disabled
+     * @param runnable Action to perform
+     */
+    protected void measure(String action, Runnable runnable) {
+        ActionMetrics.measure(xPath, action, runnable);
+    }
+
+    /**
+     * @param action   Name of the action to be measured, nothing is recorded when Action Metrics are disabled
+     * @param supplier Action to perform
+     * @param <T>      Type returned by the action
+     * @return Returns the value returned by the action
+     */
+    protected <T> T measure(String action, Supplier<T> supplier) {
+        return ActionMetrics.measure(xPath, action, supplier);
+    }
+
+    /**
+     * @param timeOut Time in seconds to wait for the element, overriding the default TimeOut of the Driver Context
+     */
+    protected void setTimeOut(int timeOut) {
+        this.timeOut = timeOut;
+    }
+
+    /**
+     * @return Returns the Wait Policy used to locate elements, based on the Driver Context
+     */
+    protected WaitPolicy getTimeOutPolicy() {
+        return timeOut < 0 ? driverContext.getDefaultPolicy() : driverContext.getPolicy(timeOut);
+    }
+
+    /**
+     * Returns the cached Element while it is still displayed and enabled, in other cases waits until the Element is
+     * clickable and caches it
+     *
+     * @return Returns the Element located by the base xPath
+     */
+    protected WebElement getElement() {
+        WebElement webElement = cachedElement;
+        if (webElement != null && !isClickable(webElement)) {
+            invalidateElement();
+            webElement = null;
+        }
+        if (webElement == null) {
+            webElement = fallbackLocators.isEmpty()
+                    ? waitEngine.until(ExpectedConditions.elementToBeClickable(locator.getBy()), getTimeOutPolicy())
+                    : locateWithFallbacks();
+            if (cacheElement) {
+                cachedElement = webElement;
+            }
+        }
+        return webElement;
+    }
+
+    /**
+     * Waits according to the defined Wait Policy before acting on the element
+     */
+    protected void awaitBeforeAction() {
+        waitEngine.awaitSettled(waitPolicy);
+    }
+
+    /**
+     * Moves the view to the Element according to the Scroll Strategy
+     *
+     * @param webElement Element to bring into the view
+     */
+    protected void scrollToElement(WebElement webElement) {
+        scrollToElement(webElement, false);
+    }
+
+    /**
+     * Moves the view to the Element according to the Scroll Strategy, checking the viewport and scrolling in a single
+     * script, nothing is sent when there is nothing to move
+     *
+     * @param webElement Element to bring into the view
+     * @param withOffset Also moves the view by the defined X and Y Positions after scrolling to the Element, the view
+     *                   is not moved when the Element was already inside it (with NONE it's always moved)
+     */
+    protected void scrollToElement(WebElement webElement, boolean withOffset) {
+        if (scrollStrategy == ScrollStrategy.NONE) {
+            if (withOffset) {
+                scrollByOffset();
+            }
+            return;
+        }
+        ((JavascriptExecutor) webDriver).executeScript(SCROLL_SCRIPT, webElement, scrollStrategy.name(),
+                withOffset ? xPosition : 0, withOffset ? yPosition : 0);
+    }
+
+    /**
+     * Moves the view by the defined X and Y Positions, nothing is sent when both are 0
+     */
+    protected void scrollByOffset() {
+        if (xPosition != 0 || yPosition != 0) {
+            ((JavascriptExecutor) webDriver).executeScript("window.scrollBy(arguments[0], arguments[1]);", xPosition, yPosition);
+        }
+    }
+
+    /**
+     * Discards the cached Element so the next action locates it again
+     */
+    protected void invalidateElement() {
+        cachedElement = null;
+    }
+
+    /**
+     * Runs an action over the Element, locating it again once if the cached Element became stale
+     *
+     * @param action Action to perform over the Element
+     */
+    protected void actOnElement(Consumer<WebElement> action) {
+        fromElement(webElement -> {
+            action.accept(webElement);
+            return null;
+        });
+    }
+
+    /**
+     * Runs a function over the Element, locating it again and attempting it again while the Retry Policy allows it
+     *
+     * @param function Function to evaluate over the Element
+     * @param <T>      Type returned by the function
+     * @return Returns the value returned by the function
+     */
+    protected <T> T fromElement(Function<WebElement, T> function) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return function.apply(getElement());
+            } catch (RuntimeException ex) {
+                if (!retryPolicy.isRetryable(ex)) {
+                    throw ex;
+                }
+                invalidateElement();
+                if (attempt >= retryPolicy.getMaxAttempts()) {
+                    throw ex;
+                }
+                LOGGER.debug("Action failed with {}, attempting it again: {}", ex.getClass().getSimpleName(), xPath);
+                ActionMetrics.recordRetry();
+                backoff(retryPolicy.backoff(attempt), ex);
+            }
+        }
+    }
+
+    private static boolean isClickable(WebElement webElement) {
+        try {
+            return webElement.isDisplayed() && webElement.isEnabled();
+        } catch (StaleElementReferenceException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Searches the Element with the ranked Locators in every polling, so the fallbacks don't wait for the base TimeOut
+     */
+    private WebElement locateWithFallbacks() {
+        List<Locator> ranked = LocatorHealer.rank(locator, fallbackLocators);
+        Map.Entry<Locator, WebElement> found = waitEngine.until(driver -> {
+            for (Locator candidate : ranked) {
+                try {
+                    WebElement webElement = ExpectedConditions.elementToBeClickable(candidate.getBy()).apply(driver);
+                    if (webElement != null) {
+                        return Map.entry(candidate, webElement);
+                    }
+                } catch (NotFoundException | StaleElementReferenceException ex) {
+                    LOGGER.trace("Locator didn't find the Element: {}", candidate);
+                }
+            }
+            return null;
+        }, getTimeOutPolicy());
+        LocatorHealer.remember(locator, found.getKey());
+        return found.getValue();
+    }
+
+    private static void backoff(long millis, RuntimeException cause) {
+        if (millis == 0) {
+            return;
+        }
+        Duration remaining = TimeoutGovernor.getRemainingBudget();
+        if (remaining != null && remaining.toMillis() < millis) {
+            throw cause;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,323 @@
+package components;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public final class DownloadWatcher implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final List<String> PARTIAL_SUFFIXES = List.of(".part", ".crdownload", ".download", ".tmp");
+    private static final long STABLE_CHECK_MILLIS = 100;
+    private final Path directory;
+    private final WatchService watchService;
+    private final Map<String, PendingDownload> pending = new ConcurrentHashMap<>();
+    private final Thread watcherThread;
+    private volatile boolean running = true;
+
+    /**
+     * @param directory Download directory configured in the browser
+     * @throws IOException When the directory can't be watched
+     */
+    public DownloadWatcher(Path directory) throws IOException {
+        this.directory = directory;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        this.watcherThread = new Thread(this::watch, "download-watcher-" + directory.getFileName());
+        this.watcherThread.setDaemon(true);
+        this.watcherThread.start();
+    }
+
+    /**
+     * Files are completed when they exist without a partial companion (".part", ".crdownload") and their size doesn't
+     * change during 100 ms. A file that already exists is only completed after it changes (size or modification time)
+     * or is deleted and created again, so the download must be expected before it finishes
+     *
+     * @param fileName Name of the file expected inside the download directory
+     * @return Returns a Future completed with the path of the file when the download finishes
+     */
+    public CompletableFuture<Path> expect(String fileName) {
+        return expect(fileName, null);
+    }
+
+    /**
+     * Same as {@link #expect(String)}, but a file already modified when the download started is completed without
+     * changing again, so the download can be expected after it was triggered. The start is compared in whole seconds
+     * because some file systems keep the modification time in seconds
+     *
+     * @param fileName  Name of the file expected inside the download directory
+     * @param startedAt Instant when the download was triggered, null to require a change after this call
+     * @return Returns a Future completed with the path of the file when the download finishes
+     */
+    public CompletableFuture<Path> expect(String fileName, Instant startedAt) {
+        PendingDownload download = register(fileName, startedAt).download;
+        check(download);
+        return download.future;
+    }
+
+    /**
+     * @param fileName Name of the file expected inside the download directory
+     * @param timeOut  Maximum time to wait until the download finishes
+     * @return Returns the path of the downloaded file, or null if it isn't downloaded in time
+     */
+    public Path waitForFile(String fileName, Duration timeOut) {
+        return waitForFile(fileName, null, timeOut);
+    }
+
+    /**
+     * The download is forgotten when it isn't finished in time, unless it was expected before the call
+     *
+     * @param fileName  Name of the file expected inside the download directory
+     * @param startedAt Instant when the download was triggered, null to require a change after this call
+     * @param timeOut   Maximum time to wait until the download finishes
+     * @return Returns the path of the downloaded file, or null if it isn't downloaded in time
+     */
+    public Path waitForFile(String fileName, Instant startedAt, Duration timeOut) {
+        Registration registration = register(fileName, startedAt);
+        PendingDownload download = registration.download;
+        check(download);
+        try {
+            return download.future.get(timeOut.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | CancellationException ex) {
+            LOGGER.error("File not downloaded in time: {}", fileName);
+        } catch (ExecutionException ex) {
+            LOGGER.error("File Download Error: {}", ex.getCause().getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (registration.created) {
+            pending.remove(fileName, download);
+            download.future.cancel(false);
+        }
+        return null;
+    }
+
+    /**
+     * @param file           Downloaded file
+     * @param expectedSize   Expected size in bytes (-1 skips the validation)
+     * @param expectedSha256 Expected SHA-256 checksum in hexadecimal (null skips the validation)
+     * @return Returns "True" if the file has the expected size and checksum
+     */
+    public static boolean verify(Path file, long expectedSize, String expectedSha256) {
+        try {
+            if (expectedSize >= 0 && Files.size(file) != expectedSize) {
+                LOGGER.error("File size doesn't match: {}", file);
+                return false;
+            }
+            if (expectedSha256 != null && !expectedSha256.equalsIgnoreCase(sha256(file))) {
+                LOGGER.error("File checksum doesn't match: {}", file);
+                return false;
+            }
+            return true;
+        } catch (IOException ex) {
+            LOGGER.error("File Verification Error: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @param file File to read
+     * @return Returns the SHA-256 checksum of the file in hexadecimal
+     * @throws IOException When the file can't be read
+     */
+    public static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Stops watching the directory, the downloads still pending are cancelled
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            watchService.close();
+        } catch (IOException ex) {
+            LOGGER.error("Download Watcher Error: {}", ex.getMessage());
+        }
+        watcherThread.interrupt();
+        pending.values().forEach(download -> download.future.cancel(false));
+        pending.clear();
+    }
+
+    /**
+     * Checks only the downloads whose file (or its partial companion) received an event, and the downloads waiting to
+     * confirm their size. Every download is checked when the events overflow
+     */
+    private void watch() {
+        while (running) {
+            try {
+                WatchKey key = watchService.poll(STABLE_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                Set<String> changed = new HashSet<>();
+                boolean overflow = false;
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            overflow = true;
+                        } else {
+                            changed.add(event.context().toString());
+                        }
+                    }
+                    key.reset();
+                }
+                for (PendingDownload download : pending.values()) {
+                    if (overflow || download.lastSize >= 0 || isRelated(download.fileName, changed)) {
+                        check(download);
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException ex) {
+                return;
+            }
+        }
+    }
+
+    private synchronized void check(PendingDownload download) {
+        if (download.future.isDone()) {
+            pending.remove(download.fileName, download);
+            return;
+        }
+        Path file = directory.resolve(download.fileName);
+        FileState state = readState(file);
+        if (state == null) {
+            download.baseline = null;
+            download.lastSize = -1;
+            return;
+        }
+        if (state.sameAs(download.baseline) || hasPartialCompanion(download.fileName)) {
+            download.lastSize = -1;
+            return;
+        }
+        long now = System.nanoTime();
+        if (state.size != download.lastSize) {
+            download.lastSize = state.size;
+            download.sizeSince = now;
+        } else if (now - download.sizeSince >= TimeUnit.MILLISECONDS.toNanos(STABLE_CHECK_MILLIS)) {
+            pending.remove(download.fileName, download);
+            download.future.complete(file);
+        }
+    }
+
+    /**
+     * @return Returns the download already pending for the file, or a new one with the current state as baseline (no
+     * baseline when the file was modified after the download started)
+     */
+    private Registration register(String fileName, Instant startedAt) {
+        PendingDownload download = pending.get(fileName);
+        if (download != null) {
+            return new Registration(download, false);
+        }
+        FileState baseline = readState(directory.resolve(fileName));
+        if (baseline != null && startedAt != null
+                && baseline.modifiedMillis >= startedAt.truncatedTo(ChronoUnit.SECONDS).toEpochMilli()) {
+            baseline = null;
+        }
+        PendingDownload created = new PendingDownload(fileName, baseline);
+        download = pending.putIfAbsent(fileName, created);
+        return download == null ? new Registration(created, true) : new Registration(download, false);
+    }
+
+    private static boolean isRelated(String fileName, Set<String> changed) {
+        for (String name : changed) {
+            if (name.equals(fileName) || name.startsWith(fileName) && PARTIAL_SUFFIXES.contains(name.substring(fileName.length()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static FileState readState(Path file) {
+        try {
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            return new FileState(Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private boolean hasPartialCompanion(String fileName) {
+        for (String suffix : PARTIAL_SUFFIXES) {
+            if (fileName.endsWith(suffix) || Files.exists(directory.resolve(fileName + suffix))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class PendingDownload {
+        private final String fileName;
+        private final CompletableFuture<Path> future = new CompletableFuture<>();
+        private FileState baseline;
+        private volatile long lastSize = -1;
+        private long sizeSince;
+
+        private PendingDownload(String fileName, FileState baseline) {
+            this.fileName = fileName;
+            this.baseline = baseline;
+        }
+    }
+
+    private static final class Registration {
+        private final PendingDownload download;
+        private final boolean created;
+
+        private Registration(PendingDownload download, boolean created) {
+            this.download = download;
+            this.created = created;
+        }
+    }
+
+    private static final class FileState {
+        private final long size;
+        private final long modifiedMillis;
+
+        private FileState(long size, long modifiedMillis) {
+            this.size = size;
+            this.modifiedMillis = modifiedMillis;
+        }
+
+        private boolean sameAs(FileState other) {
+            return other != null && size == other.size && modifiedMillis == other.modifiedMillis;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package components;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public final class DriverContext {
+    private static final Map<WebDriver, DriverContext> CONTEXTS = new ConcurrentHashMap<>();
+    private final WebDriver webDriver;
+    private final TimeoutGovernor timeoutGovernor;
+    private final WaitEngine waitEngine;
+    private final WindowManager windowManager;
+    private final ReadinessTracker readinessTracker;
+    private final Map<Long, WaitPolicy> policies = new ConcurrentHashMap<>();
+    private final Map<Long, WebDriverWait> waits = new ConcurrentHashMap<>();
+    private volatile WaitPolicy defaultPolicy = WaitPolicy.ofSeconds(60);
+
+    private DriverContext(WebDriver webDriver) {
+        this.webDriver = webDriver;
+        this.timeoutGovernor = new TimeoutGovernor(webDriver);
+        this.waitEngine = new WaitEngine(webDriver, timeoutGovernor);
+        this.windowManager = new WindowManager(webDriver);
+        this.readinessTracker = new ReadinessTracker(webDriver, timeoutGovernor);
+    }
+
+    /**
+     * The Contexts of the WebDrivers already quit are discarded every time a new WebDriver is bound
+     *
+     * @param webDriver WebDriver base Definition
+     * @return Returns the Context shared by every Page and Control bound to the WebDriver
+     */
+    public static DriverContext of(WebDriver webDriver) {
+        DriverContext context = CONTEXTS.get(webDriver);
+        if (context == null) {
+            CONTEXTS.keySet().removeIf(DriverContext::isQuit);
+            context = CONTEXTS.computeIfAbsent(webDriver, DriverContext::new);
+        }
+        return context;
+    }
+
+    /**
+     * Discards the Context of the WebDriver, it can be called after quitting the WebDriver to release it immediately
+     *
+     * @param webDriver WebDriver base Definition
+     */
+    public static void release(WebDriver webDriver) {
+        CONTEXTS.remove(webDriver);
+    }
+
+    /**
+     * Quits the WebDriver and discards its Context, even when quitting fails
+     *
+     * @param webDriver WebDriver base Definition
+     */
+    public static void quit(WebDriver webDriver) {
+        try {
+            webDriver.quit();
+        } finally {
+            release(webDriver);
+        }
+    }
+
+    /**
+     * @param defaultPolicy Defines the Wait Policy used when a Control doesn't define its own TimeOut (Base is 60 seconds)
+     */
+    public void setDefaultPolicy(WaitPolicy defaultPolicy) {
+        this.defaultPolicy = defaultPolicy;
+        policies.clear();
+        waits.clear();
+    }
+
+    /**
+     * @return Returns the Wait Policy used when a Control doesn't define its own TimeOut
+     */
+    public WaitPolicy getDefaultPolicy() {
+        return defaultPolicy;
+    }
+
+    /**
+     * @param timeOutSeconds Maximum time in seconds to wait
+     * @return Returns the default Wait Policy with the specified TimeOut
+     */
+    public WaitPolicy getPolicy(long timeOutSeconds) {
+        return policies.computeIfAbsent(timeOutSeconds, key -> defaultPolicy.withTimeOut(key * 1000));
+    }
+
+    /**
+     * @return Returns the Wait Engine bound to the WebDriver
+     */
+    public WaitEngine getWaitEngine() {
+        return waitEngine;
+    }
+
+    /**
+     * @return Returns the Timeout Governor that owns the implicit, page load and script TimeOuts of the WebDriver
+     */
+    public TimeoutGovernor getTimeoutGovernor() {
+        return timeoutGovernor;
+    }
+
+    /**
+     * @return Returns the Window Manager bound to the WebDriver
+     */
+    public WindowManager getWindowManager() {
+        return windowManager;
+    }
+
+    /**
+     * @return Returns the Readiness Tracker bound to the WebDriver
+     */
+    public ReadinessTracker getReadinessTracker() {
+        return readinessTracker;
+    }
+
+    /**
+     * The wait is resolved by the Wait Engine, so the implicit wait is disabled while it polls and its TimeOut is limited
+     * by the Budget of the current flow. The TimeOut, polling and ignored exceptions of the wait itself are not used
+     *
+     * @param timeOutSeconds Maximum time in seconds to wait
+     * @return Returns a shared WebDriverWait configured with the default Wait Policy and the specified TimeOut
+     */
+    public WebDriverWait getWait(long timeOutSeconds) {
+        return waits.computeIfAbsent(timeOutSeconds, key -> new GovernedWait(webDriver, waitEngine, getPolicy(key)));
+    }
+
+    /**
+     * @param webDriver WebDriver, it can be decorated (Example: by a CommandCounter)
+     * @return Returns the original WebDriver inside the decorators
+     */
+    static WebDriver unwrap(WebDriver webDriver) {
+        WebDriver driver = webDriver;
+        while (driver instanceof WrapsDriver wrapsDriver) {
+            driver = wrapsDriver.getWrappedDriver();
+        }
+        return driver;
+    }
+
+    private static boolean isQuit(WebDriver webDriver) {
+        return unwrap(webDriver) instanceof RemoteWebDriver remoteWebDriver && remoteWebDriver.getSessionId() == null;
+    }
+
+    private static final class GovernedWait extends WebDriverWait {
+        private final WaitEngine waitEngine;
+        private final WaitPolicy policy;
+
+        private GovernedWait(WebDriver webDriver, WaitEngine waitEngine, WaitPolicy policy) {
+            super(webDriver, Duration.ofMillis(policy.getTimeOutMillis()), Duration.ofMillis(policy.getMaxPollingMillis()));
+            ignoreAll(policy.getIgnoredExceptions());
+            this.waitEngine = waitEngine;
+            this.policy = policy;
+        }
+
+        @Override
+        public <V> V until(Function<? super WebDriver, V> isTrue) {
+            return waitEngine.until(isTrue::apply, policy);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package components;
+
+import java.util.Map;
+
+public final class ElementSnapshot {
+    private final String key;
+    private final boolean present;
+    private final boolean visible;
+    private final String text;
+    private final Map<String, String> attributes;
+
+    ElementSnapshot(String key, boolean present, boolean visible, String text, Map<String, String> attributes) {
+        this.key = key;
+        this.present = present;
+        this.visible = visible;
+        this.text = text;
+        this.attributes = Map.copyOf(attributes);
+    }
+
+    static ElementSnapshot absent(String key) {
+        return new ElementSnapshot(key, false, false, null, Map.of());
+    }
+
+    /**
+     * @return Returns the xPath of the Element, or its position for the items of a container
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return Returns "True" if the Element existed when the snapshot was taken
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * @return Returns "True" if the Element was displayed when the snapshot was taken
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * @return Returns the visible text of the Element, or null if it wasn't present
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @param name Name of the attribute requested in the snapshot
+     * @return Returns the value of the attribute, or null if the Element didn't have it
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * @return Returns every attribute captured by name
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+}
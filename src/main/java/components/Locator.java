@@ -0,0 +1,179 @@
+package components;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.ByChained;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class Locator {
+    private static final Pattern SIMPLE_XPATH = Pattern.compile("^//([a-zA-Z][\\w-]*|\\*)\\[@([a-zA-Z_][\\w-]*)\\s*=\\s*(?:'([^'\"\\\\]+)'|\"([^'\"\\\\]+)\")]$");
+    private static final String TEST_ID_ATTRIBUTE = "data-testid";
+    private static final Set<String> NODE_TESTS = Set.of("node", "text", "comment", "processing-instruction");
+    private final String expression;
+    private final String xPath;
+    private final String cssSelector;
+    private final By by;
+
+    private Locator(String expression, String xPath, String cssSelector, By by) {
+        this.expression = expression;
+        this.xPath = xPath;
+        this.cssSelector = cssSelector;
+        this.by = by;
+    }
+
+    /**
+     * Simple xPaths like "//*[@id='x']" or "//tag[@class='y']" are rewritten to the equivalent id or CSS locator
+     *
+     * @param xPath xPath of the Element
+     * @return Returns a Locator with the fastest equivalent By precompiled
+     */
+    public static Locator xpath(String xPath) {
+        Matcher matcher = SIMPLE_XPATH.matcher(xPath);
+        if (!matcher.matches()) {
+            return new Locator(xPath, xPath, null, By.xpath(xPath));
+        }
+        String tag = matcher.group(1);
+        String attribute = matcher.group(2);
+        String value = matcher.group(3) != null ? matcher.group(3) : matcher.group(4);
+        if (tag.equals("*") && attribute.equals("id")) {
+            return new Locator(xPath, null, "[id='" + value + "']", By.id(value));
+        }
+        String cssSelector = (tag.equals("*") ? "" : tag) + "[" + attribute + "='" + value + "']";
+        return new Locator(xPath, null, cssSelector, By.cssSelector(cssSelector));
+    }
+
+    /**
+     * @param cssSelector CSS Selector of the Element
+     * @return Returns a Locator with the CSS Selector precompiled
+     */
+    public static Locator css(String cssSelector) {
+        return new Locator(cssSelector, null, cssSelector, By.cssSelector(cssSelector));
+    }
+
+    /**
+     * @param id Id of the Element
+     * @return Returns a Locator with the Id precompiled
+     */
+    public static Locator id(String id) {
+        return new Locator("#" + id, null, "[id='" + escape(id) + "']", By.id(id));
+    }
+
+    /**
+     * @param testId Value of the "data-testid" attribute of the Element
+     * @return Returns a Locator with the Test Id precompiled as a CSS Selector
+     */
+    public static Locator testId(String testId) {
+        String cssSelector = "[" + TEST_ID_ATTRIBUTE + "='" + escape(testId) + "']";
+        return new Locator("[" + TEST_ID_ATTRIBUTE + "='" + testId + "']", null, cssSelector, By.cssSelector(cssSelector));
+    }
+
+    /**
+     * xPaths that were not rewritten are made relative to the parent with {@link #relativeXPath(String)}, so they are
+     * searched inside it
+     *
+     * @param parent Locator of the parent Element
+     * @return Returns a Locator that searches this Element inside the parent Element
+     * @throws IllegalArgumentException When the xPath always searches the whole document (Example: "id('x')//a")
+     */
+    public Locator within(Locator parent) {
+        By child = xPath != null ? By.xpath(relativeXPath(xPath)) : by;
+        return new Locator(parent.expression + " >> " + expression, null, null, new ByChained(parent.by, child));
+    }
+
+    /**
+     * @param parent Control that contains the Element
+     * @return Returns a Locator that searches this Element inside the Element of the parent Control
+     */
+    public Locator within(Control parent) {
+        return within(parent.getLocator());
+    }
+
+    /**
+     * @return Returns the precompiled By used to locate the Element
+     */
+    public By getBy() {
+        return by;
+    }
+
+    /**
+     * @return Returns the xPath to evaluate inside the browser, or null when the Locator is evaluated with CSS or chained
+     */
+    String getScriptXPath() {
+        return xPath;
+    }
+
+    /**
+     * @return Returns the CSS Selector to evaluate inside the browser, or null when the Locator is evaluated with xPath
+     * or chained
+     */
+    String getScriptCssSelector() {
+        return cssSelector;
+    }
+
+    /**
+     * @return Returns the expression used to create the Locator
+     */
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Makes every absolute path of the xPath relative to the context Element, also inside leading parentheses and unions
+     * (Example: "(//a)[1] | //b" becomes "(.//a)[1] | .//b"), the predicates are kept as they are
+     *
+     * @param xPath xPath of the Element
+     * @return Returns the xPath to evaluate from the context Element
+     * @throws IllegalArgumentException When a path starts with a function (Example: "id('x')//a"), since it always
+     *                                  searches the whole document
+     */
+    public static String relativeXPath(String xPath) {
+        StringBuilder relative = new StringBuilder(xPath.length() + 4);
+        boolean pathStart = true;
+        int predicates = 0;
+        char quote = 0;
+        for (int i = 0; i < xPath.length(); i++) {
+            char character = xPath.charAt(i);
+            if (quote != 0) {
+                quote = character == quote ? 0 : quote;
+            } else if (character == '\'' || character == '"') {
+                quote = character;
+                pathStart = false;
+            } else if (character == '[') {
+                predicates++;
+            } else if (character == ']') {
+                predicates--;
+            } else if (predicates == 0 && pathStart && !Character.isWhitespace(character) && character != '(') {
+                if (character == '/') {
+                    relative.append('.');
+                } else if (startsFunction(xPath, i)) {
+                    throw new IllegalArgumentException("xPath can't be searched inside a parent: " + xPath);
+                }
+                pathStart = false;
+            }
+            if (quote == 0 && predicates == 0 && (character == '(' || character == '|')) {
+                pathStart = true;
+            }
+            relative.append(character);
+        }
+        return relative.toString();
+    }
+
+    private static boolean startsFunction(String xPath, int start) {
+        int end = start;
+        while (end < xPath.length() && (Character.isLetterOrDigit(xPath.charAt(end)) || "-_:".indexOf(xPath.charAt(end)) >= 0)) {
+            end++;
+        }
+        String name = xPath.substring(start, end);
+        while (end < xPath.length() && Character.isWhitespace(xPath.charAt(end))) {
+            end++;
+        }
+        return !name.isEmpty() && end < xPath.length() && xPath.charAt(end) == '(' && !NODE_TESTS.contains(name);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("'", "\\'");
+    }
+}
@@ -0,0 +1,100 @@
+package components;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class LocatorHealer {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Map<String, String> HEALED = new ConcurrentHashMap<>();
+    private static Path cacheFile;
+
+    private LocatorHealer() {
+    }
+
+    /**
+     * Loads the Locators that worked in previous runs and stores the new ones in the same file
+     *
+     * @param cacheFile Is the location of the ".properties" file used as cache (it's created if missing)
+     * @throws IOException If the file can't be read
+     */
+    public static synchronized void setCacheFile(Path cacheFile) throws IOException {
+        LocatorHealer.cacheFile = cacheFile;
+        if (Files.exists(cacheFile)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            for (String name : properties.stringPropertyNames()) {
+                HEALED.put(name, properties.getProperty(name));
+            }
+        }
+    }
+
+    /**
+     * Discards the Locators remembered, the cache file is not modified
+     */
+    public static void clear() {
+        HEALED.clear();
+    }
+
+    /**
+     * @param primary   Locator defined for the Control
+     * @param fallbacks Fallback Locators in order of preference
+     * @return Returns the Locators in the order to try them, the one that worked last time first
+     */
+    static List<Locator> rank(Locator primary, List<Locator> fallbacks) {
+        List<Locator> ranked = new ArrayList<>(fallbacks.size() + 1);
+        ranked.add(primary);
+        ranked.addAll(fallbacks);
+        String healed = HEALED.get(primary.toString());
+        if (healed != null) {
+            for (int i = 1; i < ranked.size(); i++) {
+                if (ranked.get(i).toString().equals(healed)) {
+                    ranked.add(0, ranked.remove(i));
+                    break;
+                }
+            }
+        }
+        return ranked;
+    }
+
+    /**
+     * @param primary Locator defined for the Control
+     * @param winner  Locator that found the Element
+     */
+    static void remember(Locator primary, Locator winner) {
+        String key = primary.toString();
+        String previous = winner == primary ? HEALED.remove(key) : HEALED.put(key, winner.toString());
+        if (winner != primary && !winner.toString().equals(previous)) {
+            LOGGER.warn("Locator healed: {} -> {}", key, winner);
+            store();
+        } else if (winner == primary && previous != null) {
+            store();
+        }
+    }
+
+    private static synchronized void store() {
+        if (cacheFile == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.putAll(HEALED);
+        try (Writer writer = Files.newBufferedWriter(cacheFile, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Healed Locators");
+        } catch (IOException ex) {
+            LOGGER.error("Locator Cache Error: {}", ex.getMessage());
+        }
+    }
+}
@@ -1,48 +1,72 @@
 package components;
 
+import components.metrics.ActionMetrics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.util.ArrayList;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 public abstract class Page {
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final long MODAL_APPEAR_MILLIS = 5000;
     protected final WebDriver webDriver;
+    protected final DriverContext driverContext;
+    protected final WaitEngine waitEngine;
 
     /**
      * @param webDriver WebDriver base Definition
      */
     protected Page(WebDriver webDriver) {
         this.webDriver = webDriver;
+        this.driverContext = DriverContext.of(webDriver);
+        this.waitEngine = driverContext.getWaitEngine();
     }
 
     /**
-     * @param tabName The tab Name where the view will be located
+     * @param tabName The tab Name where the view will be located, the view stays in the current tab when no tab matches
      */
     public void switchToTab(String tabName) {
-        for (String windowHandle : webDriver.getWindowHandles()) {
-            WebDriver windowObj = webDriver.switchTo().window(windowHandle);
-            if (windowObj.getTitle().contains(tabName)) {
+        measure("switchToTab", () -> {
+            if (driverContext.getWindowManager().switchToTitle(tabName)) {
                 LOGGER.info("Switching to Tab: {}", tabName);
-                break;
             }
-        }
+        });
+    }
+
+    /**
+     * @param urlRegex Regular expression to find inside the URL of the tab, the view stays in the current tab when no tab
+     *                 matches
+     */
+    public void switchToTabByUrl(String urlRegex) {
+        measure("switchToTabByUrl", () -> {
+            if (driverContext.getWindowManager().switchToUrl(Pattern.compile(urlRegex))) {
+                LOGGER.info("Switching to Tab with URL: {}", urlRegex);
+            }
+        });
     }
 
     /**
      * This will switch the view to the Last Tab opened
      */
     public void switchToLastTab() {
-        ArrayList<String> tabs = new ArrayList<>(webDriver.getWindowHandles());
-        WebDriver windowObj = webDriver.switchTo().window(tabs.get(tabs.size() - 1));
-        LOGGER.info("Switching to Tab: {}", windowObj.getTitle());
+        measure("switchToLastTab", () -> {
+            WindowManager windowManager = driverContext.getWindowManager();
+            if (windowManager.switchToLast()) {
+                LOGGER.info("Switching to Tab: {}", windowManager.getCurrentTitle());
+            }
+        });
     }
 
     /**
@@ -52,23 +76,62 @@ public abstract class Page {
      * @return Returns "True" if the download is successful, in other cases will return "False"
      */
     public boolean fileDownloadedCorrectly(String mainTabName, String fileName, int timeOutDownload) {
-        try {
-            Thread.sleep(1000);
-            ((JavascriptExecutor) webDriver).executeScript("window.open();");
-            Thread.sleep(1000);
-            switchToTab("New Tab");
-            Thread.sleep(1000);
-        } catch (InterruptedException ex) {
-            LOGGER.error("File Download Error: {}", ex.getMessage());
-            Thread.currentThread().interrupt();
-            return false;
-        } finally {
-            switchToTab(mainTabName);
-        }
-        webDriver.navigate().to("about:downloads");
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeOutDownload));
-        wait.until(ExpectedConditions.elementToBeClickable(By.xpath("(//*[contains(@displayName,'" + fileName + "') and @progress='100'])[1]")));
-        return true;
+        return measure("fileDownloadedCorrectly", () -> {
+            try {
+                driverContext.getWindowManager().openTab();
+            } catch (WebDriverException ex) {
+                LOGGER.error("File Download Error: {}", ex.getMessage());
+                return false;
+            } finally {
+                switchToTab(mainTabName);
+            }
+            webDriver.navigate().to("about:downloads");
+            waitEngine.until(ExpectedConditions.elementToBeClickable(By.xpath("(//*[contains(@displayName,'" + fileName + "') and @progress='100'])[1]")), driverContext.getPolicy(timeOutDownload));
+            return true;
+        });
+    }
+
+    /**
+     * Starts watching the download directory before the download is triggered, so a download that finishes before it
+     * is verified isn't missed. The directory stops being watched when the Future completes or is cancelled
+     *
+     * @param downloadDirectory The download directory configured in the browser
+     * @param fileName          The FileName expected inside the download directory
+     * @return Returns a Future completed with the path of the file when the download finishes
+     */
+    public CompletableFuture<Path> expectDownload(Path downloadDirectory, String fileName) {
+        return measure("expectDownload", () -> {
+            try {
+                DownloadWatcher downloadWatcher = new DownloadWatcher(downloadDirectory);
+                CompletableFuture<Path> download = downloadWatcher.expect(fileName);
+                download.whenComplete((file, ex) -> downloadWatcher.close());
+                return download;
+            } catch (IOException ex) {
+                LOGGER.error("File Download Error: {}", ex.getMessage());
+                return CompletableFuture.failedFuture(ex);
+            }
+        });
+    }
+
+    /**
+     * Verifies the download in the file system instead of the browser Downloads Tab, so it works in every browser. A
+     * file modified since the download started is accepted even if it finished before this call
+     *
+     * @param downloadDirectory The download directory configured in the browser
+     * @param fileName          The FileName expected inside the download directory
+     * @param startedAt         Instant taken before triggering the download
+     * @param timeOutDownload   Is the Maximum time in seconds to wait until the file is downloaded
+     * @return Returns "True" if the download is successful, in other cases will return "False"
+     */
+    public boolean fileDownloadedCorrectly(Path downloadDirectory, String fileName, Instant startedAt, int timeOutDownload) {
+        return measure("fileDownloadedCorrectly", () -> {
+            try (DownloadWatcher downloadWatcher = new DownloadWatcher(downloadDirectory)) {
+                return downloadWatcher.waitForFile(fileName, startedAt, TimeoutGovernor.clamp(Duration.ofSeconds(timeOutDownload))) != null;
+            } catch (IOException ex) {
+                LOGGER.error("File Download Error: {}", ex.getMessage());
+                return false;
+            }
+        });
     }
 
     /**
@@ -76,36 +139,73 @@ public abstract class Page {
      * @param timeOut    Is the Maximum time to wait until the Modal disappears
      */
     public void waitForModal(String modalXPath, int timeOut) {
-        try {
-            boolean isVisible = false;
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(5));
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(modalXPath)));
-            for (int i = 0; i < timeOut; i++) {
-                isVisible = !webDriver.findElements(By.xpath(modalXPath)).isEmpty();
-                if (isVisible) {
-                    Thread.sleep(1000);
-                } else {
-                    break;
-                }
+        measure("waitForModal", () -> {
+            ReadinessTracker readinessTracker = driverContext.getReadinessTracker();
+            if (!readinessTracker.awaitElement(modalXPath, ReadinessTracker.ElementState.PRESENT, MODAL_APPEAR_MILLIS)) {
+                throw new TimeoutException("Modal not found: " + modalXPath);
             }
-            if (isVisible) {
-                throw new InterruptedException("Modal TimeOut / Still Visible");
+            if (!readinessTracker.awaitElement(modalXPath, ReadinessTracker.ElementState.ABSENT, timeOut * 1000L)) {
+                LOGGER.error("Modal TimeOut / Still Visible: {}", modalXPath);
             }
-        } catch (InterruptedException ex) {
-            LOGGER.error("Modal not found.");
-            Thread.currentThread().interrupt();
-        }
+        });
     }
 
     /**
+     * Waits until the page is complete and idle: no fetch/XHR requests in flight, no animations running and no DOM
+     * changes during 250 ms
+     *
      * @param timeOutLoad Time in seconds to wait until Page Loads
      */
     public void waitForPageLoad(int timeOutLoad) {
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeOutLoad));
-        ExpectedCondition<Boolean> pageLoadCondition = driver -> {
-            assert driver != null;
-            return ((JavascriptExecutor) driver).executeScript("return document.readyState").toString().equals("complete");
-        };
-        wait.until(pageLoadCondition);
+        measure("waitForPageLoad", () -> {
+            if (!driverContext.getReadinessTracker().awaitIdle(timeOutLoad * 1000L)) {
+                throw new TimeoutException("Page not loaded after " + timeOutLoad + " seconds");
+            }
+        });
+    }
+
+    /**
+     * Captures the texts, attributes, visibility and presence of every Element with a single script, without waiting
+     *
+     * @param xPaths     xPaths of the Elements to capture
+     * @param attributes Names of the attributes to capture
+     * @return Returns an immutable snapshot to verify locally, the missing Elements are captured as not present
+     */
+    public PageSnapshot takeSnapshot(List<String> xPaths, String... attributes) {
+        return measure("takeSnapshot", () -> PageSnapshot.of(webDriver, xPaths, List.of(attributes)));
+    }
+
+    /**
+     * Captures the texts, attributes, visibility and presence of every item inside a container (Example: the cells of a
+     * table) with a single script, waiting only until the container exists
+     *
+     * @param containerXPath xPath of the container Element
+     * @param itemXPath      xPath of the items relative to the container (Example: ".//td")
+     * @param attributes     Names of the attributes to capture
+     * @return Returns an immutable snapshot to verify locally, the items are keyed by position (Starts in 0)
+     */
+    public PageSnapshot takeSnapshot(String containerXPath, String itemXPath, String... attributes) {
+        return measure("takeSnapshot", () -> {
+            List<String> names = List.of(attributes);
+            return waitEngine.until(driver -> PageSnapshot.ofContainer(driver, containerXPath, itemXPath, names), driverContext.getDefaultPolicy());
+        });
+    }
+
+    /**
+     * @param action   Name of the action to be measured, nothing is recorded when Action Metrics are disabled
+     * @param runnable Action to perform
+     */
+    protected void measure(String action, Runnable runnable) {
+        ActionMetrics.measure(getClass().getSimpleName(), action, runnable);
+    }
+
+    /**
+     * @param action   Name of the action to be measured, nothing is recorded when Action Metrics are disabled
+     * @param supplier Action to perform
+     * @param <T>      Type returned by the action
+     * @return Returns the value returned by the action
+     */
+    protected <T> T measure(String action, Supplier<T> supplier) {
+        return ActionMetrics.measure(getClass().getSimpleName(), action, supplier);
     }
-}
\ No newline at end of file
+}
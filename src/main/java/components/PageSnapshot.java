@@ -0,0 +1,152 @@
+package components;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class PageSnapshot {
+    private static final String SNAPSHOT_SCRIPT = """
+            var xPaths = arguments[0], containerXPath = arguments[1], itemXPath = arguments[2], names = arguments[3];
+            function find(xPath) {
+                return document.evaluate(xPath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+            }
+            function describe(element) {
+                if (!element) {
+                    return null;
+                }
+                var attributes = {};
+                for (var i = 0; i < names.length; i++) {
+                    var value = element.getAttribute(names[i]);
+                    if (value !== null) {
+                        attributes[names[i]] = value;
+                    }
+                }
+                var visible = !!(element.offsetWidth || element.offsetHeight || element.getClientRects().length)
+                    && getComputedStyle(element).visibility !== 'hidden';
+                var text = element.innerText !== undefined ? element.innerText : element.textContent;
+                return {visible: visible, text: (text || '').trim(), attributes: attributes};
+            }
+            var result = [];
+            if (containerXPath === null) {
+                for (var j = 0; j < xPaths.length; j++) {
+                    result.push(describe(find(xPaths[j])));
+                }
+                return result;
+            }
+            var container = find(containerXPath);
+            if (!container) {
+                return null;
+            }
+            var items = document.evaluate(itemXPath, container, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+            for (var k = 0; k < items.snapshotLength; k++) {
+                result.push(describe(items.snapshotItem(k)));
+            }
+            return result;
+            """;
+    private final Map<String, ElementSnapshot> elements;
+
+    private PageSnapshot(Map<String, ElementSnapshot> elements) {
+        this.elements = Collections.unmodifiableMap(elements);
+    }
+
+    /**
+     * @param webDriver  WebDriver base Definition
+     * @param xPaths     xPaths of the Elements to capture
+     * @param attributes Names of the attributes to capture
+     * @return Returns the snapshot of every Element, the missing ones are captured as not present
+     */
+    static PageSnapshot of(WebDriver webDriver, List<String> xPaths, List<String> attributes) {
+        List<?> values = (List<?>) ((JavascriptExecutor) webDriver).executeScript(SNAPSHOT_SCRIPT, xPaths, null, null, attributes);
+        Map<String, ElementSnapshot> elements = new LinkedHashMap<>();
+        for (int i = 0; i < xPaths.size(); i++) {
+            elements.put(xPaths.get(i), toElement(xPaths.get(i), values.get(i)));
+        }
+        return new PageSnapshot(elements);
+    }
+
+    /**
+     * @param webDriver      WebDriver base Definition
+     * @param containerXPath xPath of the container Element
+     * @param itemXPath      xPath of the items relative to the container (Example: ".//td")
+     * @param attributes     Names of the attributes to capture
+     * @return Returns the snapshot of every item keyed by its position (Starts in 0), or null if the container is missing
+     */
+    static PageSnapshot ofContainer(WebDriver webDriver, String containerXPath, String itemXPath, List<String> attributes) {
+        List<?> values = (List<?>) ((JavascriptExecutor) webDriver).executeScript(SNAPSHOT_SCRIPT, List.of(), containerXPath, itemXPath, attributes);
+        if (values == null) {
+            return null;
+        }
+        Map<String, ElementSnapshot> elements = new LinkedHashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            elements.put(String.valueOf(i), toElement(String.valueOf(i), values.get(i)));
+        }
+        return new PageSnapshot(elements);
+    }
+
+    private static ElementSnapshot toElement(String key, Object value) {
+        if (!(value instanceof Map<?, ?> element)) {
+            return ElementSnapshot.absent(key);
+        }
+        Map<String, String> attributes = new HashMap<>();
+        if (element.get("attributes") instanceof Map<?, ?> values) {
+            values.forEach((name, attribute) -> attributes.put(String.valueOf(name), String.valueOf(attribute)));
+        }
+        return new ElementSnapshot(key, true, Boolean.TRUE.equals(element.get("visible")), String.valueOf(element.get("text")), attributes);
+    }
+
+    /**
+     * @param key xPath of the Element, or its position for the items of a container
+     * @return Returns the snapshot of the Element, captured as not present if it wasn't requested
+     */
+    public ElementSnapshot get(String key) {
+        ElementSnapshot element = elements.get(key);
+        return element != null ? element : ElementSnapshot.absent(key);
+    }
+
+    /**
+     * @param key xPath of the Element, or its position for the items of a container
+     * @return Returns the visible text of the Element, or null if it wasn't present
+     */
+    public String getText(String key) {
+        return get(key).getText();
+    }
+
+    /**
+     * @param key xPath of the Element, or its position for the items of a container
+     * @return Returns "True" if the Element existed when the snapshot was taken
+     */
+    public boolean isPresent(String key) {
+        return get(key).isPresent();
+    }
+
+    /**
+     * @return Returns every Element in the order they were requested or found
+     */
+    public List<ElementSnapshot> getElements() {
+        return List.copyOf(elements.values());
+    }
+
+    /**
+     * @return Returns the visible text of every Element in the order they were requested or found
+     */
+    public List<String> getTexts() {
+        List<String> texts = new ArrayList<>(elements.size());
+        for (ElementSnapshot element : elements.values()) {
+            texts.add(element.getText());
+        }
+        return texts;
+    }
+
+    /**
+     * @return Returns the number of Elements captured
+     */
+    public int size() {
+        return elements.size();
+    }
+}
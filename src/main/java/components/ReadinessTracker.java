@@ -0,0 +1,224 @@
+package components;
+
+import components.metrics.ActionMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Script;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.time.Duration;
+import java.util.Map;
+
+public final class ReadinessTracker {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final long DEFAULT_QUIET_MILLIS = 250;
+    private static final long SCRIPT_TIMEOUT_MARGIN = 2000;
+    private static final long RETRY_PAUSE_MILLIS = 50;
+    private static final String TRACKER_SCRIPT = """
+            (function () {
+                if (window.__controlReadiness) {
+                    return;
+                }
+                var tracker = window.__controlReadiness = {requests: 0, lastMutation: Date.now()};
+                var finished = function () { tracker.requests--; };
+                if (window.fetch) {
+                    var originalFetch = window.fetch;
+                    window.fetch = function () {
+                        tracker.requests++;
+                        try {
+                            return originalFetch.apply(this, arguments).finally(finished);
+                        } catch (ex) {
+                            finished();
+                            throw ex;
+                        }
+                    };
+                }
+                var originalSend = XMLHttpRequest.prototype.send;
+                XMLHttpRequest.prototype.send = function () {
+                    tracker.requests++;
+                    this.addEventListener('loadend', finished, {once: true});
+                    try {
+                        return originalSend.apply(this, arguments);
+                    } catch (ex) {
+                        this.removeEventListener('loadend', finished);
+                        finished();
+                        throw ex;
+                    }
+                };
+                new MutationObserver(function () { tracker.lastMutation = Date.now(); })
+                    .observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+            })();
+            """;
+    private static final String READINESS_SCRIPT = TRACKER_SCRIPT + """
+            var done = arguments[arguments.length - 1];
+            var state = arguments[0], xPath = arguments[1], quiet = arguments[2], limit = arguments[3];
+            var tracker = window.__controlReadiness;
+            function animating() {
+                return !!document.getAnimations && document.getAnimations().some(function (animation) {
+                    return animation.playState === 'running' && animation.effect
+                        && animation.effect.getTiming().iterations !== Infinity;
+                });
+            }
+            function find() {
+                return document.evaluate(xPath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+            }
+            function visible(element) {
+                return !!element && !!(element.offsetWidth || element.offsetHeight || element.getClientRects().length)
+                    && getComputedStyle(element).visibility !== 'hidden';
+            }
+            function ready() {
+                switch (state) {
+                    case 'PRESENT': return !!find();
+                    case 'ABSENT': return !find();
+                    case 'VISIBLE': return visible(find());
+                    case 'HIDDEN': return !visible(find());
+                    default: return document.readyState === 'complete' && tracker.requests <= 0 && !animating()
+                        && Date.now() - tracker.lastMutation >= quiet;
+                }
+            }
+            var start = Date.now();
+            (function check() {
+                if (ready()) {
+                    done(true);
+                } else if (Date.now() - start >= limit) {
+                    done(false);
+                } else {
+                    setTimeout(check, 25);
+                }
+            })();
+            """;
+    private final WebDriver webDriver;
+    private final TimeoutGovernor timeoutGovernor;
+    private volatile boolean preloadAttempted = false;
+
+    /**
+     * Defines the states an Element can be awaited for
+     */
+    public enum ElementState {
+        /**
+         * The Element exists in the DOM
+         */
+        PRESENT,
+        /**
+         * The Element doesn't exist in the DOM
+         */
+        ABSENT,
+        /**
+         * The Element exists and is displayed
+         */
+        VISIBLE,
+        /**
+         * The Element doesn't exist or isn't displayed
+         */
+        HIDDEN
+    }
+
+    ReadinessTracker(WebDriver webDriver, TimeoutGovernor timeoutGovernor) {
+        this.webDriver = webDriver;
+        this.timeoutGovernor = timeoutGovernor;
+    }
+
+    /**
+     * Waits until the page is complete, there are no fetch/XHR requests in flight, no finite animations running and no
+     * DOM changes during 250 ms
+     *
+     * @param timeOutMillis Maximum time in milliseconds to wait
+     * @return Returns "True" if the page became idle before the TimeOut
+     */
+    public boolean awaitIdle(long timeOutMillis) {
+        return awaitIdle(DEFAULT_QUIET_MILLIS, timeOutMillis);
+    }
+
+    /**
+     * The tracker is registered as a preload script (BiDi, or CDP in Chromium browsers) by the first wait, so it's
+     * installed before the scripts of every page loaded after it. In other WebDrivers, and in the pages that were already
+     * loaded, the tracker is installed by the first wait in the page and the requests started before it are not tracked
+     *
+     * @param quietMillis   Time in milliseconds without DOM changes to consider the page idle
+     * @param timeOutMillis Maximum time in milliseconds to wait
+     * @return Returns "True" if the page became idle before the TimeOut
+     */
+    public boolean awaitIdle(long quietMillis, long timeOutMillis) {
+        return await("IDLE", null, quietMillis, timeOutMillis);
+    }
+
+    /**
+     * @param xPath         xPath of the Element
+     * @param state         State expected for the Element
+     * @param timeOutMillis Maximum time in milliseconds to wait
+     * @return Returns "True" if the Element reached the state before the TimeOut
+     */
+    public boolean awaitElement(String xPath, ElementState state, long timeOutMillis) {
+        return await(state.name(), xPath, 0, timeOutMillis);
+    }
+
+    /**
+     * Resolves the wait inside the browser with a single asynchronous script, it's evaluated again only when the page
+     * is unloaded while waiting. The TimeOut is limited by the Budget of the current flow
+     */
+    private boolean await(String state, String xPath, long quietMillis, long timeOutMillis) {
+        long limitMillis = TimeoutGovernor.clamp(Duration.ofMillis(timeOutMillis)).toMillis();
+        long start = System.nanoTime();
+        long deadline = start + limitMillis * 1_000_000;
+        registerPreload();
+        try {
+            while (true) {
+                long remaining = Math.max(0, (deadline - System.nanoTime()) / 1_000_000);
+                try {
+                    Object ready = timeoutGovernor.withScriptTimeOut(Duration.ofMillis(remaining + SCRIPT_TIMEOUT_MARGIN),
+                            () -> ((JavascriptExecutor) webDriver).executeAsyncScript(READINESS_SCRIPT, state, xPath, quietMillis, remaining));
+                    return Boolean.TRUE.equals(ready);
+                } catch (JavascriptException ex) {
+                    if (System.nanoTime() >= deadline || !pause()) {
+                        LOGGER.debug("Readiness script failed: {}", ex.getMessage());
+                        return false;
+                    }
+                } catch (ScriptTimeoutException ex) {
+                    LOGGER.debug("Readiness script timed out: {}", ex.getMessage());
+                    return false;
+                }
+            }
+        } finally {
+            ActionMetrics.recordWait(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Registers the tracker once per WebDriver with BiDi when the session has it enabled, or with CDP in Chromium
+     * browsers (only for the current tab), in other cases the tracker is installed by the readiness script
+     */
+    private void registerPreload() {
+        if (preloadAttempted) {
+            return;
+        }
+        preloadAttempted = true;
+        WebDriver driver = DriverContext.unwrap(webDriver);
+        try {
+            if (driver instanceof HasBiDi hasBiDi && hasBiDi.maybeGetBiDi().isPresent()) {
+                try (Script script = new Script(driver)) {
+                    script.addPreloadScript("function () {" + TRACKER_SCRIPT + "}");
+                }
+            } else if (driver instanceof HasCdp hasCdp) {
+                hasCdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", TRACKER_SCRIPT));
+            }
+        } catch (WebDriverException | UnsupportedOperationException ex) {
+            LOGGER.debug("Readiness tracker not registered as preload script: {}", ex.getMessage());
+        }
+    }
+
+    private static boolean pause() {
+        try {
+            Thread.sleep(RETRY_PAUSE_MILLIS);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package components;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RetryPolicy {
+    private static final long DEFAULT_INITIAL_BACKOFF = 50;
+    private static final long DEFAULT_MAX_BACKOFF = 1000;
+    private static final List<Class<? extends Throwable>> DEFAULT_RETRYABLE = List.of(StaleElementReferenceException.class,
+            ElementClickInterceptedException.class, ElementNotInteractableException.class, MoveTargetOutOfBoundsException.class);
+    /**
+     * Policy that locates the Element again once when it becomes stale, without waiting
+     */
+    public static final RetryPolicy STALE_ONCE = new RetryPolicy(2, 0, 0, List.of(StaleElementReferenceException.class));
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final List<Class<? extends Throwable>> retryableExceptions;
+
+    private RetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis,
+                        List<Class<? extends Throwable>> retryableExceptions) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(0, initialBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoffMillis);
+        this.retryableExceptions = retryableExceptions;
+    }
+
+    /**
+     * Retries stale, intercepted, not interactable and out of bounds Elements, doubling the backoff after every attempt
+     * up to 1 second
+     *
+     * @param maxAttempts Maximum number of attempts, including the first one
+     * @return Returns a Policy with exponential backoff starting in 50 milliseconds
+     */
+    public static RetryPolicy of(int maxAttempts) {
+        return new RetryPolicy(maxAttempts, DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF, DEFAULT_RETRYABLE);
+    }
+
+    /**
+     * @param initialBackoffMillis Time in milliseconds to wait before the first retry, it doubles after every attempt
+     * @param maxBackoffMillis     Maximum time in milliseconds to wait between attempts
+     * @return Returns a copy of this Policy with the specified backoff
+     */
+    public RetryPolicy withBackoff(long initialBackoffMillis, long maxBackoffMillis) {
+        return new RetryPolicy(maxAttempts, initialBackoffMillis, maxBackoffMillis, retryableExceptions);
+    }
+
+    /**
+     * @param exceptions Exceptions that allow a new attempt, added to the current ones
+     * @return Returns a copy of this Policy retrying the specified exceptions
+     */
+    @SafeVarargs
+    public final RetryPolicy retryingOn(Class<? extends Throwable>... exceptions) {
+        List<Class<? extends Throwable>> retryable = new ArrayList<>(retryableExceptions);
+        for (Class<? extends Throwable> exception : exceptions) {
+            retryable.add(exception);
+        }
+        return new RetryPolicy(maxAttempts, initialBackoffMillis, maxBackoffMillis, List.copyOf(retryable));
+    }
+
+    /**
+     * @return Returns the maximum number of attempts, including the first one
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return Returns the time in milliseconds to wait before the first retry
+     */
+    public long getInitialBackoffMillis() {
+        return initialBackoffMillis;
+    }
+
+    /**
+     * @return Returns the maximum time in milliseconds to wait between attempts
+     */
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    /**
+     * @return Returns the exceptions that allow a new attempt
+     */
+    public List<Class<? extends Throwable>> getRetryableExceptions() {
+        return retryableExceptions;
+    }
+
+    boolean isRetryable(RuntimeException ex) {
+        for (Class<? extends Throwable> retryable : retryableExceptions) {
+            if (retryable.isInstance(ex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long backoff(int attempt) {
+        long backoff = initialBackoffMillis;
+        for (int i = 1; i < attempt && backoff < maxBackoffMillis; i++) {
+            backoff *= 2;
+        }
+        return Math.min(backoff, maxBackoffMillis);
+    }
+}
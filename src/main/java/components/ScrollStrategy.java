@@ -0,0 +1,23 @@
+package components;
+
+/**
+ * Defines how a Control moves the view to its Element before acting on it
+ */
+public enum ScrollStrategy {
+    /**
+     * Never scrolls the view to the Element
+     */
+    NONE,
+    /**
+     * Scrolls the Element to the top of the view only when it isn't completely inside the viewport
+     */
+    IF_NEEDED,
+    /**
+     * Always scrolls the Element to the top of the view
+     */
+    ALWAYS,
+    /**
+     * Scrolls the Element to the center of the view only when it isn't completely inside the viewport
+     */
+    CENTER
+}
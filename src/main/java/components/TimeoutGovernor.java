@@ -0,0 +1,226 @@
+package components;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+public final class TimeoutGovernor {
+    private static final ThreadLocal<Long> FLOW_DEADLINE = new ThreadLocal<>();
+    private static final Duration DEFAULT_SCRIPT_TIMEOUT = Duration.ofSeconds(30);
+    private final WebDriver webDriver;
+    private Duration implicitWait;
+    private Duration pageLoadTimeOut;
+    private Duration scriptTimeOut;
+    private int explicitWaits = 0;
+
+    TimeoutGovernor(WebDriver webDriver) {
+        this.webDriver = webDriver;
+        this.implicitWait = readImplicitWait(webDriver);
+    }
+
+    /**
+     * The implicit wait is disabled while the Wait Engine polls, so it doesn't multiply the explicit waits
+     *
+     * @param implicitWait Time the WebDriver waits in every search before failing (Default: the one defined in the
+     *                     WebDriver when the governor is created)
+     */
+    public synchronized void setImplicitWait(Duration implicitWait) {
+        this.implicitWait = implicitWait;
+        if (explicitWaits == 0) {
+            webDriver.manage().timeouts().implicitlyWait(implicitWait);
+        }
+    }
+
+    /**
+     * @return Returns the implicit wait defined through the governor, or the one read from the WebDriver
+     */
+    public synchronized Duration getImplicitWait() {
+        return implicitWait;
+    }
+
+    /**
+     * @param pageLoadTimeOut Maximum time the WebDriver waits for a page to load
+     */
+    public synchronized void setPageLoadTimeOut(Duration pageLoadTimeOut) {
+        webDriver.manage().timeouts().pageLoadTimeout(pageLoadTimeOut);
+        this.pageLoadTimeOut = pageLoadTimeOut;
+    }
+
+    /**
+     * @return Returns the page load TimeOut defined through the governor, or null if it wasn't defined
+     */
+    public synchronized Duration getPageLoadTimeOut() {
+        return pageLoadTimeOut;
+    }
+
+    /**
+     * @param scriptTimeOut Maximum time the WebDriver waits for an asynchronous script
+     */
+    public synchronized void setScriptTimeOut(Duration scriptTimeOut) {
+        webDriver.manage().timeouts().scriptTimeout(scriptTimeOut);
+        this.scriptTimeOut = scriptTimeOut;
+    }
+
+    /**
+     * @return Returns the script TimeOut defined through the governor or read from the WebDriver by the first
+     * asynchronous script, or null if it's still unknown
+     */
+    public synchronized Duration getScriptTimeOut() {
+        return scriptTimeOut;
+    }
+
+    /**
+     * Runs an asynchronous script with a script TimeOut of at least the required one. The TimeOut is only sent when the
+     * current one is shorter, and it is restored when the script finishes
+     *
+     * @param required Minimum script TimeOut needed by the asynchronous script
+     * @param script   Script to run
+     * @param <T>      Type returned by the script
+     * @return Returns the value returned by the script
+     */
+    public <T> T withScriptTimeOut(Duration required, Supplier<T> script) {
+        Duration previous;
+        synchronized (this) {
+            previous = getCurrentScriptTimeOut();
+            if (previous.compareTo(required) < 0) {
+                webDriver.manage().timeouts().scriptTimeout(required);
+            } else {
+                previous = null;
+            }
+        }
+        try {
+            return script.get();
+        } finally {
+            if (previous != null) {
+                synchronized (this) {
+                    webDriver.manage().timeouts().scriptTimeout(previous);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Returns the implicit wait defined in the WebDriver, or zero when the WebDriver can't report it
+     */
+    private static Duration readImplicitWait(WebDriver webDriver) {
+        try {
+            Duration implicitWait = webDriver.manage().timeouts().getImplicitWaitTimeout();
+            return implicitWait == null ? Duration.ZERO : implicitWait;
+        } catch (WebDriverException | UnsupportedOperationException ex) {
+            return Duration.ZERO;
+        }
+    }
+
+    /**
+     * @return Returns the script TimeOut defined through the governor, or the one of the WebDriver (read once, the W3C
+     * default of 30 seconds when the WebDriver can't report it)
+     */
+    private Duration getCurrentScriptTimeOut() {
+        if (scriptTimeOut == null) {
+            try {
+                scriptTimeOut = webDriver.manage().timeouts().getScriptTimeout();
+            } catch (WebDriverException | UnsupportedOperationException ex) {
+                scriptTimeOut = DEFAULT_SCRIPT_TIMEOUT;
+            }
+        }
+        return scriptTimeOut;
+    }
+
+    /**
+     * Runs the search with the implicit wait disabled, restoring it when the outermost search finishes
+     *
+     * @param search Search or condition to evaluate
+     * @param <T>    Type returned by the search
+     * @return Returns the value returned by the search
+     */
+    public <T> T withoutImplicitWait(Supplier<T> search) {
+        synchronized (this) {
+            if (explicitWaits++ == 0 && !implicitWait.isZero()) {
+                webDriver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            }
+        }
+        try {
+            return search.get();
+        } finally {
+            synchronized (this) {
+                if (--explicitWaits == 0 && !implicitWait.isZero()) {
+                    webDriver.manage().timeouts().implicitlyWait(implicitWait);
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts a deadline for the current flow, every wait of the Pages and Controls in the thread is limited by the time
+     * left until it is closed
+     *
+     * @param budget Maximum time for every wait of the flow together
+     * @return Returns the Budget to be closed when the flow finishes, the previous Budget is restored then
+     */
+    public static Budget startBudget(Duration budget) {
+        Long previous = FLOW_DEADLINE.get();
+        long deadline = System.nanoTime() + budget.toNanos();
+        FLOW_DEADLINE.set(previous != null ? Math.min(previous, deadline) : deadline);
+        return new Budget(previous);
+    }
+
+    /**
+     * @return Returns the time left in the Budget of the current flow, or null when there is no Budget
+     */
+    public static Duration getRemainingBudget() {
+        Long deadline = FLOW_DEADLINE.get();
+        return deadline == null ? null : Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+
+    /**
+     * @param timeOut TimeOut requested by a wait
+     * @return Returns the TimeOut limited by the Budget of the current flow
+     * @throws TimeoutException When the Budget of the current flow is exhausted
+     */
+    public static Duration clamp(Duration timeOut) {
+        Duration remaining = getRemainingBudget();
+        if (remaining == null) {
+            return timeOut;
+        }
+        if (remaining.isZero()) {
+            throw new TimeoutException("Flow budget exhausted");
+        }
+        return remaining.compareTo(timeOut) < 0 ? remaining : timeOut;
+    }
+
+    /**
+     * @param policy Policy requested by a wait
+     * @return Returns the Policy with its TimeOut limited by the Budget of the current flow
+     * @throws TimeoutException When the Budget of the current flow is exhausted
+     */
+    public static WaitPolicy clamp(WaitPolicy policy) {
+        if (FLOW_DEADLINE.get() == null) {
+            return policy;
+        }
+        long timeOutMillis = clamp(Duration.ofMillis(policy.getTimeOutMillis())).toMillis();
+        return timeOutMillis == policy.getTimeOutMillis() ? policy : policy.withTimeOut(timeOutMillis);
+    }
+
+    public static final class Budget implements AutoCloseable {
+        private final Long previous;
+
+        private Budget(Long previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * Finishes the Budget of the current flow, restoring the previous one
+         */
+        @Override
+        public void close() {
+            if (previous == null) {
+                FLOW_DEADLINE.remove();
+            } else {
+                FLOW_DEADLINE.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package components;
+
+import components.metrics.ActionMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.*;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+public final class WaitEngine {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String DOM_SETTLED_SCRIPT = """
+            var settle = arguments[0], limit = arguments[1], done = arguments[arguments.length - 1];
+            var settleTimer, limitTimer, observer;
+            function finish(settled) {
+                observer.disconnect();
+                clearTimeout(settleTimer);
+                clearTimeout(limitTimer);
+                done(settled);
+            }
+            function restart() {
+                clearTimeout(settleTimer);
+                settleTimer = setTimeout(function () { finish(true); }, settle);
+            }
+            observer = new MutationObserver(restart);
+            observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+            limitTimer = setTimeout(function () { finish(false); }, limit);
+            restart();
+            """;
+    private static final long SCRIPT_TIMEOUT_MARGIN = 2000;
+    private final WebDriver webDriver;
+    private final TimeoutGovernor timeoutGovernor;
+
+    /**
+     * The Engine shared by Pages and Controls is obtained from the Driver Context, this one has its own Timeout Governor
+     *
+     * @param webDriver WebDriver base Definition
+     */
+    public WaitEngine(WebDriver webDriver) {
+        this(webDriver, new TimeoutGovernor(webDriver));
+    }
+
+    WaitEngine(WebDriver webDriver, TimeoutGovernor timeoutGovernor) {
+        this.webDriver = webDriver;
+        this.timeoutGovernor = timeoutGovernor;
+    }
+
+    /**
+     * Evaluates the condition with adaptive polling until it returns a value different from null or false, the implicit
+     * wait is disabled while polling and the TimeOut is limited by the Budget of the current flow
+     *
+     * @param condition Condition to evaluate
+     * @param policy    Policy that defines the TimeOut and the polling
+     * @param <T>       Type returned by the condition
+     * @return Returns the first value accepted from the condition
+     */
+    public <T> T until(Function<WebDriver, T> condition, WaitPolicy policy) {
+        WaitPolicy clamped = TimeoutGovernor.clamp(policy);
+        long start = System.nanoTime();
+        try {
+            return timeoutGovernor.withoutImplicitWait(() -> poll(condition, clamped, start + clamped.getTimeOutMillis() * 1_000_000));
+        } finally {
+            ActionMetrics.recordWait(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Waits until the DOM stops changing for the settle time of the policy, finishing earlier if it is already quiet. A
+     * policy without settle time doesn't wait at all
+     *
+     * @param policy Policy that defines the TimeOut and the settle time
+     * @return Returns "True" if the DOM settled before the TimeOut
+     */
+    public boolean awaitSettled(WaitPolicy policy) {
+        if (policy.getTimeOutMillis() == 0 || policy.getSettleMillis() == 0) {
+            return true;
+        }
+        WaitPolicy clamped = TimeoutGovernor.clamp(policy);
+        long start = System.nanoTime();
+        try {
+            return settle(clamped);
+        } finally {
+            ActionMetrics.recordWait(System.nanoTime() - start);
+        }
+    }
+
+    private <T> T poll(Function<WebDriver, T> condition, WaitPolicy policy, long deadline) {
+        long polling = policy.getInitialPollingMillis();
+        RuntimeException lastException = null;
+        while (true) {
+            try {
+                T value = condition.apply(webDriver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    return value;
+                }
+            } catch (RuntimeException ex) {
+                if (!policy.isIgnored(ex)) {
+                    throw ex;
+                }
+                lastException = ex;
+            }
+            long remaining = (deadline - System.nanoTime()) / 1_000_000;
+            if (remaining <= 0) {
+                throw new TimeoutException("Condition not reached after " + policy.getTimeOutMillis() + " ms", lastException);
+            }
+            sleep(Math.min(polling, remaining));
+            polling = policy.nextPolling(polling);
+        }
+    }
+
+    private boolean settle(WaitPolicy policy) {
+        try {
+            Object settled = timeoutGovernor.withScriptTimeOut(Duration.ofMillis(policy.getTimeOutMillis() + SCRIPT_TIMEOUT_MARGIN),
+                    () -> ((JavascriptExecutor) webDriver).executeAsyncScript(DOM_SETTLED_SCRIPT, policy.getSettleMillis(), policy.getTimeOutMillis()));
+            return Boolean.TRUE.equals(settled);
+        } catch (ScriptTimeoutException ex) {
+            LOGGER.debug("DOM did not settle: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            LOGGER.error("Wait interrupted: {}", ex.getMessage());
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Wait interrupted", ex);
+        }
+    }
+}
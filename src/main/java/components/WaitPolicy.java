@@ -0,0 +1,169 @@
+package components;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class WaitPolicy {
+    private static final long DEFAULT_INITIAL_POLLING = 25;
+    private static final long DEFAULT_MAX_POLLING = 500;
+    private static final long DEFAULT_SETTLE = 250;
+    private static final List<Class<? extends Throwable>> DEFAULT_IGNORED = List.of(NotFoundException.class, StaleElementReferenceException.class);
+    /**
+     * Policy that does not wait at all
+     */
+    public static final WaitPolicy NONE = new WaitPolicy(0, DEFAULT_INITIAL_POLLING, DEFAULT_MAX_POLLING, 0);
+    private final long timeOutMillis;
+    private final long initialPollingMillis;
+    private final long maxPollingMillis;
+    private final long settleMillis;
+    private final List<Class<? extends Throwable>> ignoredExceptions;
+
+    /**
+     * @param timeOutMillis        Maximum time in milliseconds to wait
+     * @param initialPollingMillis First polling interval in milliseconds, it grows until reaching the maximum
+     * @param maxPollingMillis     Maximum polling interval in milliseconds
+     * @param settleMillis         Time in milliseconds without DOM changes to consider the page settled (0 disables it)
+     */
+    public WaitPolicy(long timeOutMillis, long initialPollingMillis, long maxPollingMillis, long settleMillis) {
+        this(timeOutMillis, initialPollingMillis, maxPollingMillis, settleMillis, DEFAULT_IGNORED);
+    }
+
+    private WaitPolicy(long timeOutMillis, long initialPollingMillis, long maxPollingMillis, long settleMillis,
+                       List<Class<? extends Throwable>> ignoredExceptions) {
+        this.timeOutMillis = Math.max(0, timeOutMillis);
+        this.initialPollingMillis = Math.max(1, initialPollingMillis);
+        this.maxPollingMillis = Math.max(this.initialPollingMillis, maxPollingMillis);
+        this.settleMillis = Math.max(0, settleMillis);
+        this.ignoredExceptions = ignoredExceptions;
+    }
+
+    /**
+     * @param timeOutMillis Maximum time in milliseconds to wait
+     * @return Returns a Policy with adaptive polling and the specified TimeOut
+     */
+    public static WaitPolicy ofMillis(long timeOutMillis) {
+        return new WaitPolicy(timeOutMillis, DEFAULT_INITIAL_POLLING, DEFAULT_MAX_POLLING, 0);
+    }
+
+    /**
+     * @param timeOutSeconds Maximum time in seconds to wait
+     * @return Returns a Policy with adaptive polling and the specified TimeOut
+     */
+    public static WaitPolicy ofSeconds(long timeOutSeconds) {
+        return ofMillis(timeOutSeconds * 1000);
+    }
+
+    /**
+     * @param timeOut Maximum time to wait
+     * @return Returns a Policy with adaptive polling and the specified TimeOut
+     */
+    public static WaitPolicy of(Duration timeOut) {
+        return ofMillis(timeOut.toMillis());
+    }
+
+    /**
+     * @param timeOutMillis Maximum time in milliseconds to wait until the DOM stops changing
+     * @return Returns a Policy that finishes as soon as the DOM settles
+     */
+    public static WaitPolicy untilDomSettles(long timeOutMillis) {
+        return new WaitPolicy(timeOutMillis, DEFAULT_INITIAL_POLLING, DEFAULT_MAX_POLLING, DEFAULT_SETTLE);
+    }
+
+    /**
+     * @param timeOutMillis Maximum time in milliseconds to wait
+     * @return Returns a copy of this Policy with the specified TimeOut
+     */
+    public WaitPolicy withTimeOut(long timeOutMillis) {
+        return new WaitPolicy(timeOutMillis, initialPollingMillis, maxPollingMillis, settleMillis, ignoredExceptions);
+    }
+
+    /**
+     * @param initialPollingMillis First polling interval in milliseconds
+     * @param maxPollingMillis     Maximum polling interval in milliseconds
+     * @return Returns a copy of this Policy with the specified polling
+     */
+    public WaitPolicy withPolling(long initialPollingMillis, long maxPollingMillis) {
+        return new WaitPolicy(timeOutMillis, initialPollingMillis, maxPollingMillis, settleMillis, ignoredExceptions);
+    }
+
+    /**
+     * @param settleMillis Time in milliseconds without DOM changes to consider the page settled (0 disables it)
+     * @return Returns a copy of this Policy with the specified settle time
+     */
+    public WaitPolicy withSettle(long settleMillis) {
+        return new WaitPolicy(timeOutMillis, initialPollingMillis, maxPollingMillis, settleMillis, ignoredExceptions);
+    }
+
+    /**
+     * @param exceptions Exceptions to ignore while the condition is evaluated, added to the default ones
+     * @return Returns a copy of this Policy ignoring the specified exceptions
+     */
+    @SafeVarargs
+    public final WaitPolicy ignoring(Class<? extends Throwable>... exceptions) {
+        List<Class<? extends Throwable>> ignored = new ArrayList<>(ignoredExceptions);
+        for (Class<? extends Throwable> exception : exceptions) {
+            ignored.add(exception);
+        }
+        return new WaitPolicy(timeOutMillis, initialPollingMillis, maxPollingMillis, settleMillis, List.copyOf(ignored));
+    }
+
+    /**
+     * @return Returns the maximum time in milliseconds to wait
+     */
+    public long getTimeOutMillis() {
+        return timeOutMillis;
+    }
+
+    /**
+     * @return Returns the first polling interval in milliseconds
+     */
+    public long getInitialPollingMillis() {
+        return initialPollingMillis;
+    }
+
+    /**
+     * @return Returns the maximum polling interval in milliseconds
+     */
+    public long getMaxPollingMillis() {
+        return maxPollingMillis;
+    }
+
+    /**
+     * @return Returns the time in milliseconds without DOM changes to consider the page settled
+     */
+    public long getSettleMillis() {
+        return settleMillis;
+    }
+
+    /**
+     * @return Returns the exceptions ignored while the condition is evaluated
+     */
+    public List<Class<? extends Throwable>> getIgnoredExceptions() {
+        return ignoredExceptions;
+    }
+
+    /**
+     * @param exception Exception thrown while the condition was evaluated
+     * @return Returns "True" if the exception must be ignored and the condition evaluated again
+     */
+    boolean isIgnored(RuntimeException exception) {
+        for (Class<? extends Throwable> ignored : ignoredExceptions) {
+            if (ignored.isInstance(exception)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param currentPollingMillis The polling interval used in the last attempt
+     * @return Returns the next polling interval, backing off until reaching the maximum
+     */
+    long nextPolling(long currentPollingMillis) {
+        return Math.min(maxPollingMillis, currentPollingMillis + (currentPollingMillis / 2) + 1);
+    }
+}
@@ -0,0 +1,191 @@
+package components;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
+
+public final class WindowManager {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String WINDOW_INFO_SCRIPT = "return [document.title, window.location.href];";
+    private final WebDriver webDriver;
+    private final Set<String> handles = new LinkedHashSet<>();
+    private final Map<String, WindowInfo> windows = new HashMap<>();
+
+    WindowManager(WebDriver webDriver) {
+        this.webDriver = webDriver;
+    }
+
+    /**
+     * @param title Text contained by the title of the Window
+     * @return Returns "True" if the view was switched, in other cases the view stays in the original Window
+     */
+    public boolean switchToTitle(String title) {
+        return switchTo((windowTitle, windowUrl) -> windowTitle.contains(title));
+    }
+
+    /**
+     * @param urlPattern Pattern to find inside the URL of the Window
+     * @return Returns "True" if the view was switched, in other cases the view stays in the original Window
+     */
+    public boolean switchToUrl(Pattern urlPattern) {
+        return switchTo((windowTitle, windowUrl) -> urlPattern.matcher(windowUrl).find());
+    }
+
+    /**
+     * Searches the Window in the cached titles and URLs first, so a single switch is done when they are up to date,
+     * the Windows are only visited one by one when the cache doesn't contain a match
+     *
+     * @param condition Receives the title and the URL of every Window
+     * @return Returns "True" if the view was switched, in other cases the view stays in the original Window
+     */
+    public synchronized boolean switchTo(BiPredicate<String, String> condition) {
+        refreshHandles();
+        String original = getCurrentHandle();
+        if (original != null) {
+            WindowInfo window = readWindow(original);
+            if (condition.test(window.title, window.url)) {
+                return true;
+            }
+        }
+        List<String> candidates = new ArrayList<>();
+        for (String handle : handles) {
+            WindowInfo cached = windows.get(handle);
+            if (handle.equals(original)) {
+                continue;
+            }
+            if (cached != null && condition.test(cached.title, cached.url)) {
+                candidates.add(0, handle);
+            } else {
+                candidates.add(handle);
+            }
+        }
+        for (String handle : candidates) {
+            try {
+                webDriver.switchTo().window(handle);
+            } catch (NoSuchWindowException ex) {
+                forget(handle);
+                continue;
+            }
+            WindowInfo window = readWindow(handle);
+            if (condition.test(window.title, window.url)) {
+                return true;
+            }
+        }
+        if (original != null) {
+            LOGGER.warn("No Window matches the condition, returning to the original Window");
+            webDriver.switchTo().window(original);
+        }
+        return false;
+    }
+
+    /**
+     * Opens a new tab and switches the view to it, the tab is recorded as the last one opened
+     *
+     * @return Returns the handle of the new tab
+     */
+    public synchronized String openTab() {
+        refreshHandles();
+        String handle = webDriver.switchTo().newWindow(WindowType.TAB).getWindowHandle();
+        handles.remove(handle);
+        handles.add(handle);
+        return handle;
+    }
+
+    /**
+     * @return Returns "True" if the view was switched to the last Window opened
+     */
+    public synchronized boolean switchToLast() {
+        refreshHandles();
+        if (handles.isEmpty()) {
+            return false;
+        }
+        List<String> ordered = new ArrayList<>(handles);
+        String last = ordered.get(ordered.size() - 1);
+        webDriver.switchTo().window(last);
+        return true;
+    }
+
+    /**
+     * The order is tracked by comparing the handles between calls, the driver doesn't define the order of its handles.
+     * So the Windows that already existed in the first call, or that were opened together between two calls, keep the
+     * order returned by the driver. The tabs opened with openTab are always recorded in order
+     *
+     * @return Returns the Window handles in the order they were opened
+     */
+    public synchronized List<String> getHandles() {
+        refreshHandles();
+        return List.copyOf(handles);
+    }
+
+    /**
+     * @return Returns the title of the current Window, refreshing its cached title and URL
+     */
+    public synchronized String getCurrentTitle() {
+        return readWindow(webDriver.getWindowHandle()).title;
+    }
+
+    /**
+     * Discards the cached titles and URLs, the handles are kept in the order they were opened
+     */
+    public synchronized void invalidate() {
+        windows.clear();
+    }
+
+    private void refreshHandles() {
+        Set<String> current = webDriver.getWindowHandles();
+        if (current.size() == handles.size() && handles.containsAll(current)) {
+            return;
+        }
+        handles.retainAll(current);
+        windows.keySet().retainAll(current);
+        handles.addAll(current);
+    }
+
+    private String getCurrentHandle() {
+        try {
+            return webDriver.getWindowHandle();
+        } catch (NoSuchWindowException ex) {
+            return null;
+        }
+    }
+
+    private WindowInfo readWindow(String handle) {
+        WindowInfo window;
+        try {
+            List<?> values = (List<?>) ((JavascriptExecutor) webDriver).executeScript(WINDOW_INFO_SCRIPT);
+            window = new WindowInfo(String.valueOf(values.get(0)), String.valueOf(values.get(1)));
+        } catch (WebDriverException ex) {
+            window = new WindowInfo(webDriver.getTitle(), webDriver.getCurrentUrl());
+        }
+        windows.put(handle, window);
+        return window;
+    }
+
+    private void forget(String handle) {
+        handles.remove(handle);
+        windows.remove(handle);
+    }
+
+    private static final class WindowInfo {
+        private final String title;
+        private final String url;
+
+        private WindowInfo(String title, String url) {
+            this.title = title;
+            this.url = url;
+        }
+    }
+}
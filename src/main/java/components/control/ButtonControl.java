@@ -1,23 +1,12 @@
 package components.control;
 
 import components.Control;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
+import components.Locator;
+import components.WaitPolicy;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-
-import java.time.Duration;
 
 public final class ButtonControl extends Control {
-    private static final Logger LOGGER = LogManager.getLogger();
-    private int timeOut = 60;
-    private long waitForClick = 0;
-    private boolean autoScroll = true;
 
     /**
      * @param webDriver WebDriver base Definition
@@ -30,86 +19,78 @@ public final class ButtonControl extends Control {
     /**
      * @param webDriver   WebDriver base Definition
      * @param xPath       Base Component xPath to use
-     * @param condTimeOut TimeOut to modify (Base is 60 seconds)
+     * @param condTimeOut TimeOut to modify (Base is the Driver Context default, 60 seconds)
      */
     public ButtonControl(WebDriver webDriver, String xPath, int condTimeOut) {
         super(webDriver, xPath);
-        this.timeOut = condTimeOut;
+        setTimeOut(condTimeOut);
     }
 
     /**
-     * Defines the time to wait before click on element
-     *
-     * @param waitForClick Defines the time to wait before click on element
+     * @param webDriver WebDriver base Definition
+     * @param locator   Base Component Locator to use
      */
-    public void setWaitForClick(int waitForClick) {
-        this.waitForClick = waitForClick;
+    public ButtonControl(WebDriver webDriver, Locator locator) {
+        super(webDriver, locator);
     }
 
     /**
-     * @param autoScroll Enables the option to auto scroll the view to the element (Default: true)
+     * @param webDriver   WebDriver base Definition
+     * @param locator     Base Component Locator to use
+     * @param condTimeOut TimeOut to modify (Base is the Driver Context default, 60 seconds)
      */
-    public void setAutoScroll(boolean autoScroll) {
-        this.autoScroll = autoScroll;
+    public ButtonControl(WebDriver webDriver, Locator locator, int condTimeOut) {
+        super(webDriver, locator);
+        setTimeOut(condTimeOut);
+    }
+
+    /**
+     * Defines the time to wait before click on element
+     *
+     * @param waitForClick Defines the time to wait before click on element
+     */
+    public void setWaitForClick(int waitForClick) {
+        setWaitPolicy(WaitPolicy.untilDomSettles(waitForClick * 1000L));
     }
 
     /**
      * Allows to "Click" on specified xPath Element
      */
     public void click() {
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeOut));
-        WebElement btn = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xPath)));
-        if (autoScroll) {
-            navigateToElementLocation(btn);
-        }
-        try {
-            Thread.sleep(waitForClick * 1000);
-        } catch (InterruptedException ex) {
-            LOGGER.error(ex.getMessage());
-            Thread.currentThread().interrupt();
-        }
-        btn.click();
+        measure("click", () -> {
+            actOnElement(btn -> {
+                scrollToElement(btn);
+                awaitBeforeAction();
+                btn.click();
+            });
+        });
     }
 
     /**
      * Allows to "Right Click" on specified xPath Element
      */
     public void rightClick() {
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeOut));
-        WebElement btn = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xPath)));
-        if (autoScroll) {
-            navigateToElementLocation(btn);
-        }
-        try {
-            Thread.sleep(waitForClick * 1000);
-        } catch (InterruptedException ex) {
-            LOGGER.error(ex.getMessage());
-            Thread.currentThread().interrupt();
-        }
-        Actions action = new Actions(webDriver).contextClick(btn);
-        action.build().perform();
+        measure("rightClick", () -> {
+            actOnElement(btn -> {
+                scrollToElement(btn);
+                awaitBeforeAction();
+                Actions action = new Actions(webDriver).contextClick(btn);
+                action.build().perform();
+            });
+        });
     }
 
     /**
      * Allows to "Double Click" on specified xPath Element
      */
     public void doubleClick() {
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeOut));
-        WebElement btn = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xPath)));
-        if (autoScroll) {
-            navigateToElementLocation(btn);
-        }
-        try {
-            Thread.sleep(waitForClick * 1000);
-        } catch (InterruptedException ex) {
-            LOGGER.error(ex.getMessage());
-            Thread.currentThread().interrupt();
-        }
-        Actions action = new Actions(webDriver).doubleClick(btn);
-        action.build().perform();
-    }
-
-    private void navigateToElementLocation(WebElement webElement) {
-        ((JavascriptExecutor) webDriver).executeScript("arguments[0].scrollIntoView(true);", webElement);
+        measure("doubleClick", () -> {
+            actOnElement(btn -> {
+                scrollToElement(btn);
+                awaitBeforeAction();
+                Actions action = new Actions(webDriver).doubleClick(btn);
+                action.build().perform();
+            });
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package components.control;
+
+import components.Control;
+import components.Locator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public final class FormControl extends Control {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String FIND_FIELDS_SCRIPT = """
+            var xPaths = arguments[0], form = arguments[1], fields = [];
+            for (var i = 0; i < xPaths.length; i++) {
+                var field = document.evaluate(xPaths[i], form, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                if (!field) {
+                    return null;
+                }
+                fields.push(field);
+            }
+            return fields;
+            """;
+    private static final String SET_VALUES_SCRIPT = """
+            var fields = arguments[0], values = arguments[1], clean = arguments[2];
+            for (var i = 0; i < fields.length; i++) {
+                var field = fields[i], value = clean ? values[i] : field.value + values[i];
+                var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(field), 'value');
+                if (descriptor && descriptor.set) {
+                    descriptor.set.call(field, value);
+                } else {
+                    field.value = value;
+                }
+                field.dispatchEvent(new Event('input', {bubbles: true}));
+                field.dispatchEvent(new Event('change', {bubbles: true}));
+            }
+            """;
+    private static final String READ_VALUES_SCRIPT = """
+            var fields = arguments[0], values = [];
+            for (var i = 0; i < fields.length; i++) {
+                values.push(fields[i].value === undefined ? fields[i].textContent : fields[i].value);
+            }
+            return values;
+            """;
+    private boolean cleanText = true;
+    private boolean scriptValues = false;
+
+    /**
+     * @param webDriver WebDriver base Definition
+     * @param xPath     Form container xPath to use
+     */
+    public FormControl(WebDriver webDriver, String xPath) {
+        super(webDriver, xPath);
+    }
+
+    /**
+     * @param webDriver   WebDriver base Definition
+     * @param xPath       Form container xPath to use
+     * @param condTimeOut TimeOut to modify (Base is the Driver Context default, 60 seconds)
+     */
+    public FormControl(WebDriver webDriver, String xPath, int condTimeOut) {
+        super(webDriver, xPath);
+        setTimeOut(condTimeOut);
+    }
+
+    /**
+     * @param webDriver WebDriver base Definition
+     * @param locator   Form container Locator to use
+     */
+    public FormControl(WebDriver webDriver, Locator locator) {
+        super(webDriver, locator);
+    }
+
+    /**
+     * @param webDriver   WebDriver base Definition
+     * @param locator     Form container Locator to use
+     * @param condTimeOut TimeOut to modify (Base is the Driver Context default, 60 seconds)
+     */
+    public FormControl(WebDriver webDriver, Locator locator, int condTimeOut) {
+        super(webDriver, locator);
+        setTimeOut(condTimeOut);
+    }
+
+    /**
+     * @param cleanText Defines if the texts will be cleaned (Default: true)
+     */
+    public void setCleanText(boolean cleanText) {
+        this.cleanText = cleanText;
+    }
+
+    /**
+     * @param scriptValues Writes every value with a single script firing "input" and "change" events instead of
+     *                     typing them (Default: false)
+     */
+    public void setScriptValues(boolean scriptValues) {
+        this.scriptValues = scriptValues;
+    }
+
+    /**
+     * Allows to fill multiple fields, the fields are located inside the form with a single script and verified with a
+     * single readback. The absolute field xPaths ("//...") are made relative to the form, so only its fields are filled
+     *
+     * @param fieldValues Are the values to write by field xPath, they are written in the map order
+     * @return Returns "True" if every field contains the expected value at the end, when the texts are not cleaned the
+     * value is expected after the text the field had before
+     */
+    public boolean fillForm(Map<String, String> fieldValues) {
+        return measure("fillForm", () -> {
+            List<String> xPaths = new ArrayList<>(fieldValues.keySet());
+            List<String> values = new ArrayList<>(fieldValues.values());
+            List<String> relativeXPaths = new ArrayList<>(xPaths.size());
+            for (String xPath : xPaths) {
+                relativeXPaths.add(Locator.relativeXPath(xPath));
+            }
+            List<WebElement> fields = fromElement(form -> {
+                scrollToElement(form);
+                return findFields(form, relativeXPaths);
+            });
+            List<String> expectedValues = values;
+            if (!cleanText) {
+                List<?> previousValues = readValues(fields);
+                expectedValues = new ArrayList<>(values.size());
+                for (int i = 0; i < values.size(); i++) {
+                    expectedValues.add(Objects.toString(previousValues.get(i), "") + values.get(i));
+                }
+            }
+            awaitBeforeAction();
+            if (scriptValues) {
+                ((JavascriptExecutor) webDriver).executeScript(SET_VALUES_SCRIPT, fields, values, cleanText);
+            } else {
+                for (int i = 0; i < fields.size(); i++) {
+                    if (cleanText) {
+                        fields.get(i).clear();
+                    }
+                    fields.get(i).sendKeys(values.get(i));
+                }
+            }
+            return verifyFields(xPaths, fields, expectedValues);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WebElement> findFields(WebElement form, List<String> xPaths) {
+        return waitEngine.until(driver -> (List<WebElement>) ((JavascriptExecutor) driver).executeScript(FIND_FIELDS_SCRIPT, xPaths, form),
+                getTimeOutPolicy());
+    }
+
+    private List<?> readValues(List<WebElement> fields) {
+        return (List<?>) ((JavascriptExecutor) webDriver).executeScript(READ_VALUES_SCRIPT, fields);
+    }
+
+    private boolean verifyFields(List<String> xPaths, List<WebElement> fields, List<String> values) {
+        List<?> actualValues = readValues(fields);
+        boolean verified = true;
+        for (int i = 0; i < values.size(); i++) {
+            if (!Objects.equals(values.get(i), actualValues.get(i))) {
+                LOGGER.error("Field doesn't contain the expected value: {}", xPaths.get(i));
+                verified = false;
+            }
+        }
+        return verified;
+    }
+}
@@ -1,8 +1,8 @@
 package components.control;
 
 import components.Control;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import components.Locator;
+import components.WaitPolicy;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -10,16 +10,80 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 public final class SelectControl extends Control {
-    private static final Logger LOGGER = LogManager.getLogger();
-    private int timeOut = 60;
-    private long waitForClick = 0;
-    private boolean autoScroll = true;
+    private static final String FAST_SELECT_SCRIPT = """
+            var select = arguments[0], mode = arguments[1], values = arguments[2];
+            if (!select || select.tagName !== 'SELECT' || select.disabled || (values.length > 1 && !select.multiple)) {
+                return false;
+            }
+            var options = select.options, found = [];
+            for (var v = 0; v < values.length; v++) {
+                var match = null;
+                if (mode === 'index') {
+                    match = options[parseInt(values[v], 10)] || null;
+                } else {
+                    for (var i = 0; i < options.length && !match; i++) {
+                        var candidate = mode === 'value' ? options[i].value : options[i].text.replace(/\\s+/g, ' ').trim();
+                        if (candidate === values[v]) {
+                            match = options[i];
+                        }
+                    }
+                }
+                if (!match || match.disabled) {
+                    return false;
+                }
+                found.push(match);
+            }
+            for (var f = 0; f < found.length; f++) {
+                found[f].selected = true;
+            }
+            select.dispatchEvent(new Event('input', {bubbles: true}));
+            select.dispatchEvent(new Event('change', {bubbles: true}));
+            return true;
+            """;
+    private static final String CHECK_BOXES_SCRIPT = """
+            var xPaths = arguments[0], start = arguments[1], toggle = arguments[2];
+            function find(xPath) {
+                return document.evaluate(xPath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+            }
+            function isDisplayed(el) {
+                return !!el && (el.offsetWidth > 0 || el.offsetHeight > 0 || el.getClientRects().length > 0)
+                    && getComputedStyle(el).visibility !== 'hidden';
+            }
+            function isChecked(el) {
+                if (el.type === 'checkbox' || el.type === 'radio') {
+                    return el.checked;
+                }
+                var input = el.querySelector('input[type=checkbox],input[type=radio]');
+                if (input) {
+                    return input.checked;
+                }
+                var aria = el.getAttribute('aria-checked') || el.getAttribute('aria-selected');
+                return aria === null ? null : aria === 'true';
+            }
+            var next = start;
+            for (; toggle && next < xPaths.length; next++) {
+                var el = find(xPaths[next]);
+                if (!isDisplayed(el)) {
+                    break;
+                }
+                if (isChecked(el) !== true) {
+                    el.click();
+                }
+            }
+            var checked = [], displayed = false;
+            for (var i = 0; i < xPaths.length; i++) {
+                var item = find(xPaths[i]);
+                checked.push(!!item && isChecked(item) !== false);
+                displayed = displayed || isDisplayed(item);
+            }
+            return {next: next, displayed: displayed, checked: checked};
+            """;
+    private boolean fastSelect = true;
 
     /**
      * @param webDriver WebDriver base Definition
@@ -32,11 +96,29 @@ public final class SelectControl extends Control {
     /**
      * @param webDriver   WebDriver base Definition
      * @param xPath       Base Component xPath to use
-     * @param condTimeOut TimeOut to modify (Base is 60 seconds)
+     * @param condTimeOut TimeOut to modify (Base is the Driver Context default, 60 seconds)
      */
     public SelectControl(WebDriver webDriver, String xPath, int condTimeOut) {
         super(webDriver, xPath);
-        this.timeOut = condTimeOut;
+        setTimeOut(condTimeOut);
+    }
+
+    /**
+     * @param webDriver WebDriver base Definition
+     * @param locator   Base Component Locator to use
+     */
+    public SelectControl(WebDriver webDriver, Locator locator) {
+        super(webDriver, locator);
+    }
+
+    /**
+     * @param webDriver   WebDriver base Definition
+     * @param locator     Base Component Locator to use
+     * @param condTimeOut TimeOut to modify (Base is the Driver Context default, 60 seconds)
+     */
+    public SelectControl(WebDriver webDriver, Locator locator, int condTimeOut) {
+        super(webDriver, locator);
+        setTimeOut(condTimeOut);
     }
 
     /**
@@ -45,14 +127,14 @@ public final class SelectControl extends Control {
      * @param waitForClick Defines the time to wait before click on element
      */
     public void setWaitForClick(int waitForClick) {
-        this.waitForClick = waitForClick;
+        setWaitPolicy(WaitPolicy.untilDomSettles(waitForClick * 1000L));
     }
 
     /**
-     * @param autoScroll Enables the option to auto scroll the view to the element (Default: true)
+     * @param fastSelect Enables the selection inside the browser with a single script (Default: true)
      */
-    public void setAutoScroll(boolean autoScroll) {
-        this.autoScroll = autoScroll;
+    public void setFastSelect(boolean fastSelect) {
+        this.fastSelect = fastSelect;
     }
 
     /**
@@ -61,25 +143,77 @@ public final class SelectControl extends Control {
      * @param value Is the "Value" to search inside the specified xPath Element
      */
     public void selectElement(String value) {
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeOut));
-        WebElement selector = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xPath)));
-        if (autoScroll) {
-            navigateToElementLocation(selector);
-        }
-        Select dropDown = new Select(selector);
-        List<WebElement> options = dropDown.getOptions();
-        for (WebElement option : options) {
-            if (option.getText().equals(value)) {
-                try {
-                    Thread.sleep(waitForClick * 1000);
-                } catch (InterruptedException ex) {
-                    LOGGER.error(ex.getMessage());
-                    Thread.currentThread().interrupt();
+        measure("selectElement", () -> {
+            actOnElement(selector -> {
+                scrollToElement(selector);
+                awaitBeforeAction();
+                if (fastSelectOptions(selector, "text", List.of(value))) {
+                    return;
                 }
-                option.click();
-                break;
-            }
-        }
+                Select dropDown = new Select(selector);
+                List<WebElement> options = dropDown.getOptions();
+                for (WebElement option : options) {
+                    if (option.getText().equals(value)) {
+                        option.click();
+                        break;
+                    }
+                }
+            });
+        });
+    }
+
+    /**
+     * Allows to select the option with the specified "value" attribute inside a Select Element
+     *
+     * @param value Is the "value" attribute of the option to select
+     */
+    public void selectElementByValue(String value) {
+        measure("selectElementByValue", () -> {
+            actOnElement(selector -> {
+                scrollToElement(selector);
+                awaitBeforeAction();
+                if (!fastSelectOptions(selector, "value", List.of(value))) {
+                    new Select(selector).selectByValue(value);
+                }
+            });
+        });
+    }
+
+    /**
+     * Allows to select the option in the specified position inside a Select Element
+     *
+     * @param index Is the position of the option to select (Starts in 0)
+     */
+    public void selectElementByIndex(int index) {
+        measure("selectElementByIndex", () -> {
+            actOnElement(selector -> {
+                scrollToElement(selector);
+                awaitBeforeAction();
+                if (!fastSelectOptions(selector, "index", List.of(String.valueOf(index)))) {
+                    new Select(selector).selectByIndex(index);
+                }
+            });
+        });
+    }
+
+    /**
+     * Allows to select multiple values inside a multiple Select Element
+     *
+     * @param values Are the "Values" to search inside the specified xPath Element
+     */
+    public void selectElements(List<String> values) {
+        measure("selectElements", () -> {
+            actOnElement(selector -> {
+                scrollToElement(selector);
+                awaitBeforeAction();
+                if (!fastSelectOptions(selector, "text", values)) {
+                    Select dropDown = new Select(selector);
+                    for (String value : values) {
+                        dropDown.selectByVisibleText(value);
+                    }
+                }
+            });
+        });
     }
 
     /**
@@ -88,29 +222,26 @@ public final class SelectControl extends Control {
      * @param elementToSelectXPath Is the button element displayed after clicking in the specified xPath Element
      */
     public void selectButtonElement(String elementToSelectXPath) {
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeOut));
-        WebElement selector = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xPath)));
-        if (autoScroll) {
-            navigateToElementLocation(selector);
-        }
-        try {
-            Thread.sleep(waitForClick * 1000);
-        } catch (InterruptedException ex) {
-            LOGGER.error(ex.getMessage());
-            Thread.currentThread().interrupt();
-        }
-        selector.click();
-        WebElement elementToSelect = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(elementToSelectXPath)));
-        if (autoScroll) {
-            navigateToElementLocation(elementToSelect);
-        }
-        try {
-            Thread.sleep(waitForClick * 1000);
-        } catch (InterruptedException ex) {
-            LOGGER.error(ex.getMessage());
-            Thread.currentThread().interrupt();
-        }
-        elementToSelect.click();
+        selectButtonElement(Locator.xpath(elementToSelectXPath));
+    }
+
+    /**
+     * Allows to select the specified item inside a Select Element
+     *
+     * @param elementToSelect Is the button element displayed after clicking in the specified Element
+     */
+    public void selectButtonElement(Locator elementToSelect) {
+        measure("selectButtonElement", () -> {
+            actOnElement(selector -> {
+                scrollToElement(selector);
+                awaitBeforeAction();
+                selector.click();
+            });
+            WebElement optionElement = waitEngine.until(ExpectedConditions.elementToBeClickable(elementToSelect.getBy()), getTimeOutPolicy());
+            scrollToElement(optionElement);
+            awaitBeforeAction();
+            optionElement.click();
+        });
     }
 
     /**
@@ -119,51 +250,94 @@ public final class SelectControl extends Control {
      * @param listOfElementsXPath List of xPaths Elements to be checked
      */
     public void selectCheckBox(List<String> listOfElementsXPath) {
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeOut));
-        WebElement selector = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xPath)));
-        try {
-            Thread.sleep(waitForClick * 1000);
-            if (autoScroll) {
-                navigateToElementLocation(selector);
-            }
+        measure("selectCheckBox", () -> {
+            WebElement selector = getElement();
+            awaitBeforeAction();
+            scrollToElement(selector);
             Actions actions = new Actions(webDriver);
             actions.moveToElement(selector).click().build().perform();
             for (String elementXPath : listOfElementsXPath) {
                 //If this element is closed for any reason, it will be open again
                 if (!webDriver.findElement(By.xpath(elementXPath)).isDisplayed()) {
-                    ((JavascriptExecutor) webDriver).executeScript("window.scrollBy(" + xPosition + "," + yPosition + ")", "");
-                    Thread.sleep(waitForClick * 1000);
-                    if (autoScroll) {
-                        navigateToElementLocation(selector);
-                    }
+                    awaitBeforeAction();
+                    scrollToElement(selector, true);
                     actions = new Actions(webDriver);
                     actions.moveToElement(selector).click().build().perform();
                 }
-                WebElement elementToSelect = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(elementXPath)));
-                Thread.sleep(waitForClick * 1000);
-                if (autoScroll) {
-                    navigateToElementLocation(selector);
-                }
+                WebElement elementToSelect = waitEngine.until(ExpectedConditions.elementToBeClickable(By.xpath(elementXPath)), getTimeOutPolicy());
+                awaitBeforeAction();
+                scrollToElement(selector);
                 actions = new Actions(webDriver);
                 actions.moveToElement(elementToSelect).click().build().perform();
                 //If checkbox is still visible I close the Combo
                 if (webDriver.findElement(By.xpath(elementXPath)).isDisplayed()) {
-                    ((JavascriptExecutor) webDriver).executeScript("window.scrollBy(" + xPosition + "," + yPosition + ")", "");
-                    Thread.sleep(waitForClick * 1000);
-                    if (autoScroll) {
-                        navigateToElementLocation(selector);
-                    }
+                    awaitBeforeAction();
+                    scrollToElement(selector, true);
                     actions = new Actions(webDriver);
                     actions.moveToElement(selector).click().build().perform();
                 }
             }
-        } catch (InterruptedException ex) {
-            LOGGER.error(ex.getMessage());
-            Thread.currentThread().interrupt();
-        }
+        });
+    }
+
+    /**
+     * Allows to check multiple items inside a Select Element resolving and checking them in the browser, the Select
+     * Element is opened once and only opened again if it closes while checking
+     *
+     * @param listOfElementsXPath List of xPaths Elements to be checked
+     * @return Returns "True" if every item is checked at the end
+     */
+    public boolean selectCheckBoxBatch(List<String> listOfElementsXPath) {
+        return measure("selectCheckBoxBatch", () -> {
+            if (listOfElementsXPath.isEmpty()) {
+                return true;
+            }
+            WebElement selector = getElement();
+            Map<?, ?> state = runCheckBoxes(listOfElementsXPath, 0, false);
+            int next = 0;
+            int openings = 0;
+            while (next < listOfElementsXPath.size() && openings <= listOfElementsXPath.size()) {
+                //The Combo is only clicked when it is closed, a click while it is open would close it
+                if (!Boolean.TRUE.equals(state.get("displayed"))) {
+                    awaitBeforeAction();
+                    scrollToElement(selector);
+                    new Actions(webDriver).moveToElement(selector).click().perform();
+                    openings++;
+                }
+                state = runCheckBoxes(listOfElementsXPath, next, true);
+                int previous = next;
+                next = ((Number) state.get("next")).intValue();
+                //The Combo is open but the next item is not displayed, opening it again would not change it
+                if (next == previous && Boolean.TRUE.equals(state.get("displayed"))) {
+                    break;
+                }
+            }
+            //If the checkboxes are still visible I close the Combo
+            if (Boolean.TRUE.equals(state.get("displayed"))) {
+                awaitBeforeAction();
+                new Actions(webDriver).moveToElement(selector).click().perform();
+            }
+            return !((List<?>) state.get("checked")).contains(Boolean.FALSE);
+        });
+    }
+
+    private Map<?, ?> runCheckBoxes(List<String> listOfElementsXPath, int start, boolean toggle) {
+        return (Map<?, ?>) ((JavascriptExecutor) webDriver).executeScript(CHECK_BOXES_SCRIPT, listOfElementsXPath, start, toggle);
     }
 
-    private void navigateToElementLocation(WebElement webElement) {
-        ((JavascriptExecutor) webDriver).executeScript("arguments[0].scrollIntoView(true);", webElement);
+    /**
+     * Selects every option inside the browser and fires the "input" and "change" events once
+     *
+     * @param selector Is the Select Element
+     * @param mode     Is the option property to compare: "text", "value" or "index"
+     * @param values   Are the values to search
+     * @return Returns "True" if every option was selected, in other cases nothing is selected
+     */
+    private boolean fastSelectOptions(WebElement selector, String mode, List<String> values) {
+        if (!fastSelect) {
+            return false;
+        }
+        Object selected = ((JavascriptExecutor) webDriver).executeScript(FAST_SELECT_SCRIPT, selector, mode, values);
+        return Boolean.TRUE.equals(selected);
     }
 }
\ No newline at end of file
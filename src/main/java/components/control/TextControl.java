@@ -1,25 +1,16 @@
 package components.control;
 
 import components.Control;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
+import components.Locator;
+import components.WaitPolicy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-
-import java.time.Duration;
 
 public final class TextControl extends Control {
-    private static final Logger LOGGER = LogManager.getLogger();
-    private int timeOut = 60;
-    private long waitAfterClean = 0;
-    private long waitForClick = 0;
+    private WaitPolicy cleanPolicy = WaitPolicy.NONE;
     private boolean cleanText = true;
-    private boolean autoScroll = true;
 
     /**
      * @param webDriver WebDriver base Definition
@@ -32,32 +23,50 @@ public final class TextControl extends Control {
     /**
      * @param webDriver   WebDriver base Definition
      * @param xPath       Base Component xPath to use
-     * @param condTimeOut TimeOut to modify (Base is 60 seconds)
+     * @param condTimeOut TimeOut to modify (Base is the Driver Context default, 60 seconds)
      */
     public TextControl(WebDriver webDriver, String xPath, int condTimeOut) {
         super(webDriver, xPath);
-        this.timeOut = condTimeOut;
+        setTimeOut(condTimeOut);
+    }
+
+    /**
+     * @param webDriver WebDriver base Definition
+     * @param locator   Base Component Locator to use
+     */
+    public TextControl(WebDriver webDriver, Locator locator) {
+        super(webDriver, locator);
+    }
+
+    /**
+     * @param webDriver   WebDriver base Definition
+     * @param locator     Base Component Locator to use
+     * @param condTimeOut TimeOut to modify (Base is the Driver Context default, 60 seconds)
+     */
+    public TextControl(WebDriver webDriver, Locator locator, int condTimeOut) {
+        super(webDriver, locator);
+        setTimeOut(condTimeOut);
     }
 
     /**
      * @param waitAfterClean Defines the time to wait after clean a Text
      */
     public void setWaitAfterClean(int waitAfterClean) {
-        this.waitAfterClean = waitAfterClean;
+        setCleanPolicy(WaitPolicy.untilDomSettles(waitAfterClean * 1000L));
     }
 
     /**
-     * @param waitForClick Defines the time to wait before click on element
+     * @param cleanPolicy Defines how to wait after clean a Text (Default: no wait)
      */
-    public void setWaitForClick(int waitForClick) {
-        this.waitForClick = waitForClick;
+    public void setCleanPolicy(WaitPolicy cleanPolicy) {
+        this.cleanPolicy = cleanPolicy;
     }
 
     /**
-     * @param autoScroll Enables the option to auto scroll the view to the element (Default: true)
+     * @param waitForClick Defines the time to wait before click on element
      */
-    public void setAutoScroll(boolean autoScroll) {
-        this.autoScroll = autoScroll;
+    public void setWaitForClick(int waitForClick) {
+        setWaitPolicy(WaitPolicy.untilDomSettles(waitForClick * 1000L));
     }
 
     /**
@@ -71,22 +80,16 @@ public final class TextControl extends Control {
      * @param value Is the text value to be written
      */
     public void setText(String value) {
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeOut));
-        WebElement inputText = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xPath)));
-        if (autoScroll) {
-            navigateToElementLocation(inputText);
-        }
-        ((JavascriptExecutor) webDriver).executeScript("window.scrollBy(" + xPosition + "," + yPosition + ")", "");
-        if (cleanText) {
-            inputText.clear();
-        }
-        try {
-            Thread.sleep(waitAfterClean * 1000);
-        } catch (InterruptedException ex) {
-            LOGGER.error("Error in \"SetText\" Function: {}", ex.getMessage());
-            Thread.currentThread().interrupt();
-        }
-        inputText.sendKeys(value);
+        measure("setText", () -> {
+            actOnElement(inputText -> {
+                scrollToElement(inputText, true);
+                if (cleanText) {
+                    inputText.clear();
+                }
+                waitEngine.awaitSettled(cleanPolicy);
+                inputText.sendKeys(value);
+            });
+        });
     }
 
     /**
@@ -94,31 +97,29 @@ public final class TextControl extends Control {
      * @param autoCompleteXpath is the xPath for the displayed popup text to be clicked
      */
     public void setTextAutoComplete(String value, String autoCompleteXpath) {
-        //Using the base SetText
-        setText(value);
-        //Adding an option to Click on the displayed autocomplete popup when you write the text
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeOut));
-        WebElement inputAutoComplete = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(autoCompleteXpath)));
-        Actions actions = new Actions(webDriver);
-        try {
-            Thread.sleep(waitForClick * 1000);
-        } catch (InterruptedException ex) {
-            LOGGER.error("Error in \"SetTextAutoComplete\" Function: {}", ex.getMessage());
-            Thread.currentThread().interrupt();
-        }
-        actions.moveToElement(inputAutoComplete).moveToElement(inputAutoComplete).click().build().perform();
+        setTextAutoComplete(value, Locator.xpath(autoCompleteXpath));
     }
 
     /**
-     * @return Returns the text contained by the specified xPath Element
+     * @param value        is the Text to be written in the predefined Element
+     * @param autoComplete is the Locator for the displayed popup text to be clicked
      */
-    public String getContainedText() {
-        WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeOut));
-        WebElement inputUser = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xPath)));
-        return inputUser.getText();
+    public void setTextAutoComplete(String value, Locator autoComplete) {
+        measure("setTextAutoComplete", () -> {
+            //Using the base SetText
+            setText(value);
+            //Adding an option to Click on the displayed autocomplete popup when you write the text
+            WebElement inputAutoComplete = waitEngine.until(ExpectedConditions.elementToBeClickable(autoComplete.getBy()), getTimeOutPolicy());
+            Actions actions = new Actions(webDriver);
+            awaitBeforeAction();
+            actions.moveToElement(inputAutoComplete).moveToElement(inputAutoComplete).click().build().perform();
+        });
     }
 
-    private void navigateToElementLocation(WebElement webElement) {
-        ((JavascriptExecutor) webDriver).executeScript("arguments[0].scrollIntoView(true);", webElement);
+    /**
+     * @return Returns the text contained by the specified xPath Element
+     */
+    public String getContainedText() {
+        return measure("getContainedText", () -> fromElement(WebElement::getText));
     }
 }
\ No newline at end of file
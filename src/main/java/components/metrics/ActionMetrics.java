@@ -0,0 +1,146 @@
+package components.metrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public final class ActionMetrics {
+    private static final Map<String, Map<String, ActionStats>> STATS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<ActionTimer> CURRENT = new ThreadLocal<>();
+    private static volatile boolean enabled = false;
+
+    private ActionMetrics() {
+    }
+
+    /**
+     * @param enabled Enables the recording of every Control and Page action (Default: false)
+     */
+    public static void setEnabled(boolean enabled) {
+        ActionMetrics.enabled = enabled;
+    }
+
+    /**
+     * @return Returns "True" if the actions are being recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param target xPath of the Control or name of the Page
+     * @param action Name of the action (Example: click)
+     * @return Returns a Timer to be closed when the action finishes, it does nothing when the metrics are disabled
+     */
+    public static ActionTimer start(String target, String action) {
+        if (!enabled) {
+            return ActionTimer.DISABLED;
+        }
+        ActionStats stats = STATS.computeIfAbsent(target, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(action, key -> new ActionStats(target, key));
+        ActionTimer timer = new ActionTimer(stats, CURRENT.get());
+        CURRENT.set(timer);
+        return timer;
+    }
+
+    /**
+     * @param target   xPath of the Control or name of the Page
+     * @param action   Name of the action (Example: click)
+     * @param runnable Action to perform, it's recorded when it finishes, also with an exception
+     */
+    public static void measure(String target, String action, Runnable runnable) {
+        ActionTimer timer = start(target, action);
+        try {
+            runnable.run();
+        } finally {
+            timer.close();
+        }
+    }
+
+    /**
+     * @param target   xPath of the Control or name of the Page
+     * @param action   Name of the action (Example: click)
+     * @param supplier Action to perform, it's recorded when it finishes, also with an exception
+     * @param <T>      Type returned by the action
+     * @return Returns the value returned by the action
+     */
+    public static <T> T measure(String target, String action, Supplier<T> supplier) {
+        ActionTimer timer = start(target, action);
+        try {
+            return supplier.get();
+        } finally {
+            timer.close();
+        }
+    }
+
+    /**
+     * @param nanos Time in nanoseconds spent waiting for a condition inside the current action
+     */
+    public static void recordWait(long nanos) {
+        ActionTimer timer = CURRENT.get();
+        if (timer != null) {
+            timer.addWait(nanos);
+        }
+    }
+
+    /**
+     * Records a retry inside the current action
+     */
+    public static void recordRetry() {
+        ActionTimer timer = CURRENT.get();
+        if (timer != null) {
+            timer.addRetry();
+        }
+    }
+
+    /**
+     * Records a WebDriver command inside the current action
+     */
+    public static void recordCommand() {
+        ActionTimer timer = CURRENT.get();
+        if (timer != null) {
+            timer.addCommand();
+        }
+    }
+
+    /**
+     * @return Returns the statistics recorded, sorted by total time descending
+     */
+    public static List<ActionStats> getStats() {
+        List<ActionStats> stats = new ArrayList<>();
+        for (Map<String, ActionStats> targetStats : STATS.values()) {
+            stats.addAll(targetStats.values());
+        }
+        stats.sort(Comparator.comparingDouble((ActionStats actionStats) ->
+                actionStats.getLatency().getAverageMillis() * actionStats.getLatency().getCount()).reversed());
+        return stats;
+    }
+
+    /**
+     * @param sink Destination where the statistics will be exported
+     * @throws IOException If the statistics can't be written
+     */
+    public static void export(MetricsSink sink) throws IOException {
+        sink.export(getStats());
+    }
+
+    /**
+     * Discards every statistic recorded
+     */
+    public static void reset() {
+        STATS.clear();
+    }
+
+    static void finish(ActionTimer timer, ActionTimer parent) {
+        if (CURRENT.get() == timer) {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
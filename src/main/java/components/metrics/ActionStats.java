@@ -0,0 +1,73 @@
+package components.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ActionStats {
+    private final String target;
+    private final String action;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder commands = new LongAdder();
+
+    ActionStats(String target, String action) {
+        this.target = target;
+        this.action = action;
+    }
+
+    void record(long totalNanos, long waitNanos, long retries, long commands) {
+        this.latency.record(totalNanos);
+        this.waitNanos.add(waitNanos);
+        this.retries.add(retries);
+        this.commands.add(commands);
+    }
+
+    /**
+     * @return Returns the xPath of the Control or the name of the Page measured
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * @return Returns the name of the action measured (Example: click)
+     */
+    public String getAction() {
+        return action;
+    }
+
+    /**
+     * @return Returns the latency histogram of the action
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return Returns the total time in milliseconds spent waiting for conditions
+     */
+    public double getWaitMillis() {
+        return waitNanos.sum() / 1_000_000.0;
+    }
+
+    /**
+     * @return Returns the total time in milliseconds spent performing the action without waits
+     */
+    public double getActionMillis() {
+        return Math.max(0, latency.getAverageMillis() * latency.getCount() - getWaitMillis());
+    }
+
+    /**
+     * @return Returns the amount of retries caused by stale elements
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return Returns the amount of WebDriver commands sent, only counted when the WebDriver has a CommandCounter
+     */
+    public long getCommands() {
+        return commands.sum();
+    }
+}
@@ -0,0 +1,46 @@
+package components.metrics;
+
+public final class ActionTimer implements AutoCloseable {
+    static final ActionTimer DISABLED = new ActionTimer(null, null);
+    private final ActionStats stats;
+    private final ActionTimer parent;
+    private final long start;
+    private long waitNanos = 0;
+    private long retries = 0;
+    private long commands = 0;
+
+    ActionTimer(ActionStats stats, ActionTimer parent) {
+        this.stats = stats;
+        this.parent = parent;
+        this.start = stats == null ? 0 : System.nanoTime();
+    }
+
+    void addWait(long nanos) {
+        waitNanos += nanos;
+    }
+
+    void addRetry() {
+        retries++;
+    }
+
+    void addCommand() {
+        commands++;
+    }
+
+    /**
+     * Records the action and restores the action that contains it
+     */
+    @Override
+    public void close() {
+        if (stats == null) {
+            return;
+        }
+        stats.record(System.nanoTime() - start, waitNanos, retries, commands);
+        ActionMetrics.finish(this, parent);
+        if (parent != null) {
+            parent.waitNanos += waitNanos;
+            parent.commands += commands;
+            parent.retries += retries;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package components.metrics;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class CommandCounter implements WebDriverListener {
+    private static final Map<Class<?>, Set<String>> LOCAL_METHODS = Map.of(
+            WebDriver.class, Set.of("manage", "switchTo", "navigate"),
+            WebDriver.Options.class, Set.of("timeouts", "window", "logs"),
+            WrapsDriver.class, Set.of("getWrappedDriver"),
+            WrapsElement.class, Set.of("getWrappedElement"));
+    private final Map<String, LongAdder> commandCounts = new ConcurrentHashMap<>();
+    private final LongAdder totalCommands = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final ThreadLocal<Long> commandStart = new ThreadLocal<>();
+
+    /**
+     * @param webDriver WebDriver to be measured
+     * @return Returns the WebDriver decorated, it must be used instead of the original to count its commands
+     */
+    public WebDriver attach(WebDriver webDriver) {
+        return new EventFiringDecorator<>(this).decorate(webDriver);
+    }
+
+    /**
+     * @return Returns the amount of commands sent to the WebDriver
+     */
+    public long getCommandCount() {
+        return totalCommands.sum();
+    }
+
+    /**
+     * @return Returns the amount of commands sent to the WebDriver grouped by command name
+     */
+    public Map<String, Long> getCommandCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        commandCounts.forEach((name, count) -> counts.put(name, count.sum()));
+        return counts;
+    }
+
+    /**
+     * @return Returns the total time spent inside the WebDriver commands
+     */
+    public Duration getCommandTime() {
+        return Duration.ofNanos(totalNanos.sum());
+    }
+
+    /**
+     * Restarts every counter
+     */
+    public void reset() {
+        commandCounts.clear();
+        totalCommands.reset();
+        totalNanos.reset();
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isLocal(method)) {
+            return;
+        }
+        commandStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(method);
+    }
+
+    private void record(Method method) {
+        Long start = commandStart.get();
+        if (start == null || isLocal(method)) {
+            return;
+        }
+        commandStart.remove();
+        totalNanos.add(System.nanoTime() - start);
+        totalCommands.increment();
+        commandCounts.computeIfAbsent(method.getName(), key -> new LongAdder()).increment();
+        ActionMetrics.recordCommand();
+    }
+
+    /**
+     * Getters of the WebDriver helpers (manage, switchTo, timeouts...) are answered by the client, every other method
+     * of their interfaces (Example: switchTo().window(handle)) is a remote command
+     */
+    private static boolean isLocal(Method method) {
+        if (method.getDeclaringClass() == Object.class) {
+            return true;
+        }
+        if (method.getParameterCount() > 0) {
+            return false;
+        }
+        for (Map.Entry<Class<?>, Set<String>> entry : LOCAL_METHODS.entrySet()) {
+            if (entry.getKey().isAssignableFrom(method.getDeclaringClass())
+                    && entry.getValue().contains(method.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package components.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+public final class CsvMetricsSink implements MetricsSink {
+    private final Path targetFile;
+
+    /**
+     * @param targetFile File where the statistics will be written
+     */
+    public CsvMetricsSink(Path targetFile) {
+        this.targetFile = targetFile;
+    }
+
+    @Override
+    public void export(List<ActionStats> stats) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(targetFile, StandardCharsets.UTF_8)) {
+            writer.write("target,action,count,avgMillis,p50Millis,p95Millis,p99Millis,waitMillis,actionMillis,retries,commands\n");
+            for (ActionStats actionStats : stats) {
+                LatencyHistogram latency = actionStats.getLatency();
+                writer.write(String.format(Locale.ROOT, "\"%s\",%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%d%n",
+                        actionStats.getTarget().replace("\"", "\"\""), actionStats.getAction(), latency.getCount(),
+                        latency.getAverageMillis(), latency.getPercentileMillis(0.5), latency.getPercentileMillis(0.95),
+                        latency.getPercentileMillis(0.99), actionStats.getWaitMillis(), actionStats.getActionMillis(),
+                        actionStats.getRetries(), actionStats.getCommands()));
+            }
+        }
+    }
+}
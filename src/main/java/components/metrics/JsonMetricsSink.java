@@ -0,0 +1,45 @@
+package components.metrics;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class JsonMetricsSink implements MetricsSink {
+    private final Path targetFile;
+
+    /**
+     * @param targetFile File where the statistics will be written
+     */
+    public JsonMetricsSink(Path targetFile) {
+        this.targetFile = targetFile;
+    }
+
+    @Override
+    public void export(List<ActionStats> stats) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>(stats.size());
+        for (ActionStats actionStats : stats) {
+            LatencyHistogram latency = actionStats.getLatency();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("target", actionStats.getTarget());
+            row.put("action", actionStats.getAction());
+            row.put("count", latency.getCount());
+            row.put("avgMillis", latency.getAverageMillis());
+            row.put("p50Millis", latency.getPercentileMillis(0.5));
+            row.put("p95Millis", latency.getPercentileMillis(0.95));
+            row.put("p99Millis", latency.getPercentileMillis(0.99));
+            row.put("waitMillis", actionStats.getWaitMillis());
+            row.put("actionMillis", actionStats.getActionMillis());
+            row.put("retries", actionStats.getRetries());
+            row.put("commands", actionStats.getCommands());
+            rows.add(row);
+        }
+        Files.writeString(targetFile, new Json().toJson(rows), StandardCharsets.UTF_8);
+    }
+}
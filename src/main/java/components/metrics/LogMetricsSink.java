@@ -0,0 +1,23 @@
+package components.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+
+public final class LogMetricsSink implements MetricsSink {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    @Override
+    public void export(List<ActionStats> stats) {
+        LOGGER.info("Action Metrics Summary ({} actions)", stats.size());
+        for (ActionStats actionStats : stats) {
+            LatencyHistogram latency = actionStats.getLatency();
+            LOGGER.info("{} [{}] count={} avg={}ms p95={}ms wait={}ms retries={} commands={}",
+                    actionStats.getAction(), actionStats.getTarget(), latency.getCount(),
+                    String.format("%.1f", latency.getAverageMillis()), latency.getPercentileMillis(0.95),
+                    String.format("%.1f", actionStats.getWaitMillis()), actionStats.getRetries(),
+                    actionStats.getCommands());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package components.metrics;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface MetricsSink {
+    /**
+     * @param stats Statistics of every action recorded
+     * @throws IOException If the statistics can't be written
+     */
+    void export(List<ActionStats> stats) throws IOException;
+}
@@ -0,0 +1,40 @@
+package components.pool;
+
+import org.openqa.selenium.WebDriver;
+
+public final class DriverLease implements AutoCloseable {
+    private final DriverPool driverPool;
+    private final DriverPool.PooledDriver pooledDriver;
+    private boolean broken = false;
+    private boolean closed = false;
+
+    DriverLease(DriverPool driverPool, DriverPool.PooledDriver pooledDriver) {
+        this.driverPool = driverPool;
+        this.pooledDriver = pooledDriver;
+    }
+
+    /**
+     * @return Returns the leased WebDriver
+     */
+    public WebDriver getWebDriver() {
+        return pooledDriver.getWebDriver();
+    }
+
+    /**
+     * Marks the WebDriver to be quit instead of returned to the pool
+     */
+    public void markBroken() {
+        this.broken = true;
+    }
+
+    /**
+     * Gives back the WebDriver to the pool
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            driverPool.giveBack(pooledDriver, broken);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package components.pool;
+
+import components.DriverContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public final class DriverPool implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private final Supplier<WebDriver> driverFactory;
+    private final int maxSize;
+    private final int maxUses;
+    private final Semaphore available;
+    private final LinkedBlockingDeque<PooledDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private volatile Predicate<WebDriver> healthCheck = DriverPool::isResponding;
+    private volatile boolean closed = false;
+
+    /**
+     * @param driverFactory Creates a new WebDriver session when the pool needs one
+     * @param maxSize       Maximum amount of WebDriver sessions alive at the same time
+     * @param maxUses       Amount of leases after which a WebDriver session is recycled (0 never recycles it)
+     */
+    public DriverPool(Supplier<WebDriver> driverFactory, int maxSize, int maxUses) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be greater than 0");
+        }
+        this.driverFactory = driverFactory;
+        this.maxSize = maxSize;
+        this.maxUses = maxUses;
+        this.available = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * @param healthCheck Validates an idle WebDriver before leasing it again (Default: the session answers a command)
+     */
+    public void setHealthCheck(Predicate<WebDriver> healthCheck) {
+        this.healthCheck = healthCheck;
+    }
+
+    /**
+     * @return Returns the maximum amount of WebDriver sessions alive at the same time
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param timeOut Maximum time to wait until a WebDriver session is available
+     * @return Returns a Lease that gives back the WebDriver to the pool when it is closed
+     */
+    public DriverLease lease(Duration timeOut) {
+        if (closed) {
+            throw new IllegalStateException("Driver Pool is closed");
+        }
+        try {
+            if (!available.tryAcquire(timeOut.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new TimeoutException("No WebDriver available after " + timeOut.toMillis() + " ms");
+            }
+        } catch (InterruptedException ex) {
+            LOGGER.error("Driver Lease interrupted: {}", ex.getMessage());
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Driver Lease interrupted", ex);
+        }
+        try {
+            PooledDriver pooledDriver;
+            while ((pooledDriver = idleDrivers.pollFirst()) != null) {
+                if (healthCheck.test(pooledDriver.webDriver)) {
+                    break;
+                }
+                LOGGER.info("Discarding unhealthy WebDriver session");
+                quit(pooledDriver);
+            }
+            if (pooledDriver == null) {
+                pooledDriver = new PooledDriver(driverFactory.get());
+            }
+            pooledDriver.uses++;
+            return new DriverLease(this, pooledDriver);
+        } catch (RuntimeException ex) {
+            available.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Quits every idle WebDriver session, leased sessions are quit when they are given back
+     */
+    @Override
+    public void close() {
+        closed = true;
+        PooledDriver pooledDriver;
+        while ((pooledDriver = idleDrivers.pollFirst()) != null) {
+            quit(pooledDriver);
+        }
+    }
+
+    void giveBack(PooledDriver pooledDriver, boolean broken) {
+        try {
+            if (closed || broken || (maxUses > 0 && pooledDriver.uses >= maxUses)) {
+                quit(pooledDriver);
+            } else {
+                idleDrivers.offerFirst(pooledDriver);
+            }
+        } finally {
+            available.release();
+        }
+    }
+
+    private static void quit(PooledDriver pooledDriver) {
+        try {
+            DriverContext.quit(pooledDriver.webDriver);
+        } catch (WebDriverException ex) {
+            LOGGER.error("Error quitting WebDriver: {}", ex.getMessage());
+        }
+    }
+
+    private static boolean isResponding(WebDriver webDriver) {
+        try {
+            webDriver.getWindowHandle();
+            return true;
+        } catch (WebDriverException ex) {
+            return false;
+        }
+    }
+
+    static final class PooledDriver {
+        private final WebDriver webDriver;
+        private int uses = 0;
+
+        private PooledDriver(WebDriver webDriver) {
+            this.webDriver = webDriver;
+        }
+
+        WebDriver getWebDriver() {
+            return webDriver;
+        }
+    }
+}
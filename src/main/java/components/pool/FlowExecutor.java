@@ -0,0 +1,114 @@
+package components.pool;
+
+import components.TimeoutGovernor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import services.ParameterScope;
+import services.ParameterService;
+import services.ParameterStore;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+public final class FlowExecutor implements AutoCloseable {
+    private final DriverPool driverPool;
+    private final ExecutorService executorService;
+    private Duration leaseTimeOut = Duration.ofMinutes(5);
+    private Duration flowBudget;
+
+    /**
+     * @param driverPool Pool that provides a WebDriver session to every flow
+     */
+    public FlowExecutor(DriverPool driverPool) {
+        this.driverPool = driverPool;
+        this.executorService = Executors.newFixedThreadPool(driverPool.getMaxSize());
+    }
+
+    /**
+     * @param leaseTimeOut Maximum time a flow waits for a WebDriver session (Default: 5 minutes)
+     */
+    public void setLeaseTimeOut(Duration leaseTimeOut) {
+        this.leaseTimeOut = leaseTimeOut;
+    }
+
+    /**
+     * @param flowBudget Maximum time for every wait of a flow together, null disables it (Default: null)
+     */
+    public void setFlowBudget(Duration flowBudget) {
+        this.flowBudget = flowBudget;
+    }
+
+    /**
+     * Runs the flow in its own thread with its own WebDriver, the flow must create its own Pages and Controls. The
+     * WebDriver is only quit when its session is lost, other failures leave it to the health check of the pool. The flow
+     * uses the SUITE parameters of the Suite set in the submitting thread, and its FLOW parameters are cleaned when it
+     * finishes, so they are not shared with the next flow of the thread
+     *
+     * @param flow Flow to run with the leased WebDriver
+     * @param <T>  Type returned by the flow
+     * @return Returns the future result of the flow
+     */
+    @SuppressWarnings("try")
+    public <T> CompletableFuture<T> submit(Function<WebDriver, T> flow) {
+        Duration budget = flowBudget;
+        ParameterStore parameterStore = ParameterService.getParameterStore();
+        String suite = parameterStore.getSuite();
+        return CompletableFuture.supplyAsync(() -> {
+            String previousSuite = parameterStore.getSuite();
+            parameterStore.setSuite(suite);
+            try (DriverLease lease = driverPool.lease(leaseTimeOut)) {
+                try (TimeoutGovernor.Budget flowDeadline = budget == null ? null : TimeoutGovernor.startBudget(budget)) {
+                    return flow.apply(lease.getWebDriver());
+                } catch (NoSuchSessionException | UnreachableBrowserException ex) {
+                    lease.markBroken();
+                    throw ex;
+                } finally {
+                    parameterStore.clear(ParameterScope.FLOW);
+                }
+            } finally {
+                parameterStore.setSuite(previousSuite);
+            }
+        }, executorService);
+    }
+
+    /**
+     * Runs every flow in parallel and waits until all of them are finished
+     *
+     * @param flows Flows to run with the leased WebDrivers
+     * @param <T>   Type returned by the flows
+     * @return Returns the results of the flows in the same order
+     */
+    public <T> List<T> runAll(List<Function<WebDriver, T>> flows) {
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (Function<WebDriver, T> flow : flows) {
+            futures.add(submit(flow));
+        }
+        List<T> results = new ArrayList<>();
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw ex;
+        }
+        return results;
+    }
+
+    /**
+     * Stops accepting flows, running flows are finished before their WebDrivers are returned
+     */
+    @Override
+    public void close() {
+        executorService.shutdown();
+    }
+}
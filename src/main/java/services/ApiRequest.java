@@ -0,0 +1,82 @@
+package services;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class ApiRequest {
+    private final String method;
+    private final String url;
+    private final Map<String, String> headers;
+    private final String bodyFileLocation;
+
+    /**
+     * @param method           Is the HTTP Method to use (GET, POST, PUT...)
+     * @param url              Is the URL from the API to be tested
+     * @param headers          Are the Headers from the API to be tested
+     * @param bodyFileLocation Is the Body File location to use, it can be null
+     */
+    public ApiRequest(String method, String url, Map<String, String> headers, String bodyFileLocation) {
+        this.method = method;
+        this.url = url;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.bodyFileLocation = bodyFileLocation;
+    }
+
+    /**
+     * @param url     Is the URL from the API to be tested
+     * @param headers Are the Headers from the API to be tested
+     * @return Returns a GET request
+     */
+    public static ApiRequest get(String url, Map<String, String> headers) {
+        return new ApiRequest("GET", url, headers, null);
+    }
+
+    /**
+     * @param url              Is the URL from the API to be tested
+     * @param headers          Are the Headers from the API to be tested
+     * @param bodyFileLocation Is the Body File location to use
+     * @return Returns a POST request
+     */
+    public static ApiRequest post(String url, Map<String, String> headers, String bodyFileLocation) {
+        return new ApiRequest("POST", url, headers, bodyFileLocation);
+    }
+
+    /**
+     * @param url              Is the URL from the API to be tested
+     * @param headers          Are the Headers from the API to be tested
+     * @param bodyFileLocation Is the Body File location to use
+     * @return Returns a PUT request
+     */
+    public static ApiRequest put(String url, Map<String, String> headers, String bodyFileLocation) {
+        return new ApiRequest("PUT", url, headers, bodyFileLocation);
+    }
+
+    /**
+     * @return Returns the HTTP Method
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return Returns the URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return Returns the Headers
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return Returns the Body File location or null if the request has no Body
+     */
+    public String getBodyFileLocation() {
+        return bodyFileLocation;
+    }
+}
@@ -0,0 +1,129 @@
+package services;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class ApiResponse {
+    private static final byte[] EMPTY_BODY = new byte[0];
+    private final int statusCode;
+    private final String reasonPhrase;
+    private final Map<String, String> headers;
+    private final byte[] body;
+    private final ContentType contentType;
+
+    /**
+     * @param statusCode   Is the HTTP Status Code returned
+     * @param reasonPhrase Is the HTTP Reason Phrase returned
+     * @param headers      Are the Headers returned (Case insensitive)
+     * @param body         Is the Body returned
+     * @param contentType  Is the Content Type of the Body, it can be null
+     */
+    public ApiResponse(int statusCode, String reasonPhrase, Map<String, String> headers, byte[] body, ContentType contentType) {
+        Map<String, String> caseInsensitiveHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitiveHeaders.putAll(headers);
+        this.statusCode = statusCode;
+        this.reasonPhrase = reasonPhrase;
+        this.headers = Collections.unmodifiableMap(caseInsensitiveHeaders);
+        this.body = body == null ? EMPTY_BODY : body;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Reads the whole response so the connection can be reused
+     *
+     * @param response Is the response returned by the HTTP Client
+     * @return Returns the response as an immutable value
+     * @throws IOException If the body can't be read
+     */
+    static ApiResponse of(ClassicHttpResponse response) throws IOException {
+        Map<String, String> headers = readHeaders(response);
+        HttpEntity entity = response.getEntity();
+        byte[] body = entity == null ? EMPTY_BODY : EntityUtils.toByteArray(entity);
+        ContentType contentType = entity == null ? null : ContentType.parseLenient(entity.getContentType());
+        return new ApiResponse(response.getCode(), response.getReasonPhrase(), headers, body, contentType);
+    }
+
+    /**
+     * @param response Is the response returned by the HTTP Client, its Body is handled by the caller
+     * @return Returns the response as an immutable value without Body
+     */
+    static ApiResponse withoutBody(ClassicHttpResponse response) {
+        Map<String, String> headers = readHeaders(response);
+        HttpEntity entity = response.getEntity();
+        ContentType contentType = entity == null ? null : ContentType.parseLenient(entity.getContentType());
+        return new ApiResponse(response.getCode(), response.getReasonPhrase(), headers, EMPTY_BODY, contentType);
+    }
+
+    /**
+     * @param response Is the response returned by the asynchronous HTTP Client
+     * @return Returns the response as an immutable value
+     */
+    static ApiResponse of(SimpleHttpResponse response) {
+        Map<String, String> headers = readHeaders(response);
+        return new ApiResponse(response.getCode(), response.getReasonPhrase(), headers, response.getBodyBytes(), response.getContentType());
+    }
+
+    /**
+     * @return Returns the HTTP Status Code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return Returns the HTTP Reason Phrase
+     */
+    public String getReasonPhrase() {
+        return reasonPhrase;
+    }
+
+    /**
+     * @param headerName Is the name of the Header (Case insensitive)
+     * @return Returns the value of the Header or null if it doesn't exist
+     */
+    public String getHeader(String headerName) {
+        return headers.get(headerName);
+    }
+
+    /**
+     * @return Returns every Header returned
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return Returns a copy of the Body as bytes
+     */
+    public byte[] getBody() {
+        return body.clone();
+    }
+
+    /**
+     * @return Returns the Body as String using the charset of the response (Default: UTF-8)
+     */
+    public String getBodyAsString() {
+        Charset charset = contentType == null ? null : contentType.getCharset();
+        return new String(body, charset == null ? StandardCharsets.UTF_8 : charset);
+    }
+
+    private static Map<String, String> readHeaders(HttpResponse response) {
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Header header : response.getHeaders()) {
+            headers.merge(header.getName(), header.getValue(), (first, second) -> first + ", " + second);
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,14 @@
+package services;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface BodyReader<T> {
+    /**
+     * @param response Is the response without Body
+     * @param body     Is the Body as it arrives from the connection, it is closed after reading
+     * @return Returns the value read from the Body
+     * @throws IOException If the Body can't be read
+     */
+    T read(ApiResponse response, InputStream body) throws IOException;
+}
@@ -0,0 +1,156 @@
+package services;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+public final class CredentialCodec {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String ENCRYPT_KEY = "KeyGeneratedByJesusLNV";
+    private static final String TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final SecretKeySpec SECRET_KEY_SPEC = createCustomSecretKeySpec();
+    private static final ThreadLocal<Cipher> ENCRYPT_CIPHER = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+    private static final ThreadLocal<Cipher> DECRYPT_CIPHER = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+
+    private CredentialCodec() {
+    }
+
+    /**
+     * @param stringToEncrypt Is the name of the String to be encrypted
+     * @return Returns the String encrypted
+     */
+    public static String encrypt(String stringToEncrypt) {
+        String stringEncrypted = null;
+        try {
+            byte[] encrypted = getCipher(ENCRYPT_CIPHER).doFinal(stringToEncrypt.getBytes(StandardCharsets.UTF_8));
+            stringEncrypted = Base64.getEncoder().encodeToString(encrypted);
+        } catch (IllegalBlockSizeException | BadPaddingException | IllegalStateException ex) {
+            ENCRYPT_CIPHER.remove();
+            LOGGER.error("Error while encrypting: {}", ex.getMessage());
+        }
+        return stringEncrypted;
+    }
+
+    /**
+     * @param stringToDecrypt Is the name of the String to be decrypted
+     * @return Returns the String decrypted
+     */
+    public static String decrypt(String stringToDecrypt) {
+        String stringDecrypted = null;
+        try {
+            byte[] decrypted = Base64.getDecoder().decode(stringToDecrypt);
+            stringDecrypted = new String(getCipher(DECRYPT_CIPHER).doFinal(decrypted), StandardCharsets.UTF_8);
+        } catch (IllegalBlockSizeException | BadPaddingException | IllegalArgumentException | IllegalStateException ex) {
+            DECRYPT_CIPHER.remove();
+            LOGGER.error("Error while decrypting: {}", ex.getMessage());
+        }
+        return stringDecrypted;
+    }
+
+    /**
+     * Encrypts every value of a ".properties" file keeping the same names
+     *
+     * @param sourceFile Is the ".properties" file with plain values
+     * @param targetFile Is the ".properties" file where the encrypted values will be written
+     * @throws IOException If any of the files can't be read or written
+     */
+    public static void encryptFile(Path sourceFile, Path targetFile) throws IOException {
+        Properties encrypted = new Properties();
+        for (Map.Entry<String, String> entry : readProperties(sourceFile).entrySet()) {
+            encrypted.setProperty(entry.getKey(), encrypt(entry.getValue()));
+        }
+        try (Writer writer = Files.newBufferedWriter(targetFile, StandardCharsets.UTF_8)) {
+            encrypted.store(writer, null);
+        }
+    }
+
+    /**
+     * @param sourceFile Is the ".properties" file with encrypted values
+     * @return Returns every parameter of the file with its value decrypted
+     * @throws IOException If the file can't be read
+     */
+    public static Map<String, String> decryptFile(Path sourceFile) throws IOException {
+        Map<String, String> decrypted = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : readProperties(sourceFile).entrySet()) {
+            decrypted.put(entry.getKey(), decrypt(entry.getValue()));
+        }
+        return decrypted;
+    }
+
+    /**
+     * @param sourceFile Is the ".properties" file with encrypted values
+     * @return Returns every parameter of the file, each value is decrypted only when it is used for the first time
+     * @throws IOException If the file can't be read
+     */
+    public static Map<String, EncryptedParameter> readEncryptedFile(Path sourceFile) throws IOException {
+        Map<String, EncryptedParameter> parameters = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : readProperties(sourceFile).entrySet()) {
+            parameters.put(entry.getKey(), new EncryptedParameter(entry.getValue()));
+        }
+        return parameters;
+    }
+
+    private static Map<String, String> readProperties(Path sourceFile) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(sourceFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            values.put(name, properties.getProperty(name));
+        }
+        return values;
+    }
+
+    private static Cipher getCipher(ThreadLocal<Cipher> cipher) {
+        Cipher threadCipher = cipher.get();
+        if (threadCipher == null) {
+            cipher.remove();
+            throw new IllegalStateException("Cipher not available");
+        }
+        return threadCipher;
+    }
+
+    private static Cipher createCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(mode, SECRET_KEY_SPEC);
+            return cipher;
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException ex) {
+            LOGGER.error("Error creating Cipher: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private static SecretKeySpec createCustomSecretKeySpec() {
+        SecretKeySpec secretKeySpec = null;
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+            byte[] tmpKey = messageDigest.digest(ENCRYPT_KEY.getBytes(StandardCharsets.UTF_8));
+            tmpKey = Arrays.copyOf(tmpKey, 16);
+            secretKeySpec = new SecretKeySpec(tmpKey, "AES");
+        } catch (NoSuchAlgorithmException ex) {
+            LOGGER.error("Error creating Custom Key Spec: {}", ex.getMessage());
+        }
+        return secretKeySpec;
+    }
+}
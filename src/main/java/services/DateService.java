@@ -1,42 +1,93 @@
 package services;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class DateService {
+    private static final String DEFAULT_FORMAT = "MM/dd/yyyy";
+    private static final int MAX_FORMATTERS = 256;
+    private static final Map<Character, ChronoField> NUMERIC_LETTERS = Map.ofEntries(
+            Map.entry('u', ChronoField.DAY_OF_WEEK),
+            Map.entry('F', ChronoField.ALIGNED_WEEK_OF_MONTH),
+            Map.entry('D', ChronoField.DAY_OF_YEAR),
+            Map.entry('d', ChronoField.DAY_OF_MONTH),
+            Map.entry('H', ChronoField.HOUR_OF_DAY),
+            Map.entry('k', ChronoField.CLOCK_HOUR_OF_DAY),
+            Map.entry('K', ChronoField.HOUR_OF_AMPM),
+            Map.entry('h', ChronoField.CLOCK_HOUR_OF_AMPM),
+            Map.entry('m', ChronoField.MINUTE_OF_HOUR),
+            Map.entry('s', ChronoField.SECOND_OF_MINUTE),
+            Map.entry('S', ChronoField.MILLI_OF_SECOND));
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    private static volatile Clock clock = Clock.systemDefaultZone();
 
     private DateService() {
     }
 
+    /**
+     * @param clock Is the Clock used to get the current Date and the Time Zone (Default: System Clock)
+     */
+    public static void setClock(Clock clock) {
+        DateService.clock = clock;
+    }
+
     /**
      * @param date   Is the Date to be returned formatted
-     * @param format Is the base format to return a Date (Default is MM/dd/yyyy)
+     * @param format Is the base SimpleDateFormat pattern to return a Date (Default is MM/dd/yyyy)
      * @return Returns the Date formatted as String
      */
     public static String getDateTimeFormat(Date date, String format) {
-        if (format == null || format.length() < 8) {
-            format = "MM/dd/yyyy";
-        }
-        DateFormat dateFormat = new SimpleDateFormat(format);
-        return dateFormat.format(date);
+        return getFormatter(format).format(date.toInstant().atZone(clock.getZone()));
     }
 
     /**
      * @param daysOffset Amount in Days to offset
-     * @param format     Is the base format to return a Date (Default is MM/dd/yyyy)
+     * @param format     Is the base SimpleDateFormat pattern to return a Date (Default is MM/dd/yyyy)
      * @return Returns the Date formatted as String with the amount of days added
      */
     public static String getDateOffset(int daysOffset, String format) {
-        if (format == null || format.length() < 8) {
-            format = "MM/dd/yyyy";
+        return getFormatter(format).format(ZonedDateTime.now(clock).plusDays(daysOffset));
+    }
+
+    /**
+     * @param daysOffsets Amounts in Days to offset
+     * @param format      Is the base SimpleDateFormat pattern to return a Date (Default is MM/dd/yyyy)
+     * @return Returns the Dates formatted as String with each amount of days added, in the same order
+     */
+    public static List<String> getDateOffsets(int[] daysOffsets, String format) {
+        DateTimeFormatter formatter = getFormatter(format);
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        List<String> dates = new ArrayList<>(daysOffsets.length);
+        for (int daysOffset : daysOffsets) {
+            dates.add(formatter.format(now.plusDays(daysOffset)));
+        }
+        return dates;
+    }
+
+    /**
+     * @param startDaysOffset Amount in Days to offset the first Date
+     * @param amountOfDays    Amount of consecutive Dates to return
+     * @param format          Is the base SimpleDateFormat pattern to return a Date (Default is MM/dd/yyyy)
+     * @return Returns the consecutive Dates formatted as String starting with the offset
+     */
+    public static List<String> getDateRange(int startDaysOffset, int amountOfDays, String format) {
+        DateTimeFormatter formatter = getFormatter(format);
+        ZonedDateTime date = ZonedDateTime.now(clock).plusDays(startDaysOffset);
+        List<String> dates = new ArrayList<>(Math.max(0, amountOfDays));
+        for (int i = 0; i < amountOfDays; i++) {
+            dates.add(formatter.format(date.plusDays(i)));
         }
-        Calendar cal = Calendar.getInstance();
-        cal.add(Calendar.DAY_OF_YEAR, daysOffset);
-        Date before = cal.getTime();
-        SimpleDateFormat formatter = new SimpleDateFormat(format);
-        return formatter.format(before);
+        return dates;
     }
 
     /**
@@ -45,9 +96,84 @@ public final class DateService {
      * @return Returns the Date modified in Minutes as Date
      */
     public static Date addMinutes(Date date, int minutes) {
-        Calendar cal = Calendar.getInstance();
-        cal.setTime(date);
-        cal.add(Calendar.MINUTE, minutes);
-        return cal.getTime();
+        return Date.from(date.toInstant().plus(minutes, ChronoUnit.MINUTES));
+    }
+
+    private static DateTimeFormatter getFormatter(String format) {
+        if (format == null || format.length() < 8) {
+            format = DEFAULT_FORMAT;
+        }
+        DateTimeFormatter formatter = FORMATTERS.get(format);
+        if (formatter == null) {
+            if (FORMATTERS.size() >= MAX_FORMATTERS) {
+                FORMATTERS.clear();
+            }
+            formatter = translate(format);
+            FORMATTERS.put(format, formatter);
+        }
+        return formatter;
+    }
+
+    /**
+     * Builds the DateTimeFormatter equivalent to a SimpleDateFormat pattern, the letters whose meaning changed in
+     * java.time (Example: "u" is the day number of the week instead of the year, "S" are milliseconds instead of a
+     * fraction) are appended as their SimpleDateFormat fields and every other character is kept as literal text
+     *
+     * @param pattern SimpleDateFormat pattern
+     * @return Returns the Formatter producing the same text than SimpleDateFormat
+     * @throws IllegalArgumentException If the pattern contains a letter unknown by SimpleDateFormat
+     */
+    private static DateTimeFormatter translate(String pattern) {
+        DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char letter = pattern.charAt(i);
+            if (letter == '\'') {
+                int end = pattern.indexOf('\'', i + 1);
+                if (end == i + 1) {
+                    builder.appendLiteral('\'');
+                    i += 2;
+                    continue;
+                }
+                StringBuilder quoted = new StringBuilder();
+                while (end > 0 && end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'') {
+                    quoted.append(pattern, i + 1, end + 1);
+                    i = end + 1;
+                    end = pattern.indexOf('\'', i + 1);
+                }
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated quote in pattern: " + pattern);
+                }
+                builder.appendLiteral(quoted.append(pattern, i + 1, end).toString());
+                i = end + 1;
+                continue;
+            }
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == letter) {
+                count++;
+            }
+            i += count;
+            if ((letter < 'a' || letter > 'z') && (letter < 'A' || letter > 'Z')) {
+                builder.appendLiteral(String.valueOf(letter).repeat(count));
+                continue;
+            }
+            ChronoField numericField = NUMERIC_LETTERS.get(letter);
+            if (numericField != null) {
+                if (count == 1) {
+                    builder.appendValue(numericField);
+                } else {
+                    builder.appendValue(numericField, count, 19, SignStyle.NOT_NEGATIVE);
+                }
+                continue;
+            }
+            switch (letter) {
+                case 'y', 'Y', 'X' -> builder.appendPattern(String.valueOf(letter).repeat(count));
+                case 'M', 'L', 'E', 'z' -> builder.appendPattern(String.valueOf(letter).repeat(Math.min(count, 4)));
+                case 'w' -> builder.appendPattern(String.valueOf(letter).repeat(Math.min(count, 2)));
+                case 'W', 'G', 'a', 'Z' -> builder.appendPattern(String.valueOf(letter));
+                default -> throw new IllegalArgumentException("Illegal pattern character '" + letter + "'");
+            }
+        }
+        return builder.toFormatter();
     }
-}
\ No newline at end of file
+}
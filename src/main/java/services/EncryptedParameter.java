@@ -0,0 +1,45 @@
+package services;
+
+public final class EncryptedParameter {
+    private final String encryptedValue;
+    private volatile String decryptedValue;
+
+    /**
+     * @param encryptedValue Is the value encrypted with the Credential Codec
+     */
+    public EncryptedParameter(String encryptedValue) {
+        this.encryptedValue = encryptedValue;
+    }
+
+    /**
+     * @return Returns the value decrypted, it is decrypted only the first time
+     */
+    public String get() {
+        String value = decryptedValue;
+        if (value == null) {
+            synchronized (this) {
+                value = decryptedValue;
+                if (value == null) {
+                    value = CredentialCodec.decrypt(encryptedValue);
+                    decryptedValue = value;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return Returns the value encrypted
+     */
+    public String getEncryptedValue() {
+        return encryptedValue;
+    }
+
+    /**
+     * @return Returns a masked text so the decrypted value is never written to logs
+     */
+    @Override
+    public String toString() {
+        return "******";
+    }
+}
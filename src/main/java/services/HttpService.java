@@ -0,0 +1,308 @@
+package services;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.FileEntity;
+import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+public final class HttpService {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final ContentType DEFAULT_BODY_CONTENT_TYPE = ContentType.create("text/plain", StandardCharsets.UTF_8);
+    private static int maxConnections = 50;
+    private static int maxConnectionsPerRoute = 10;
+    private static long keepAliveSeconds = 30;
+    private static volatile CloseableHttpClient httpClient;
+    private static volatile CloseableHttpAsyncClient httpAsyncClient;
+
+    private HttpService() {
+    }
+
+    /**
+     * Replaces the shared HTTP Client, the previous one is closed gracefully
+     *
+     * @param maxConnections         Maximum amount of pooled connections (Default: 50)
+     * @param maxConnectionsPerRoute Maximum amount of pooled connections to the same host (Default: 10)
+     * @param keepAliveSeconds       Maximum time in seconds to keep an idle connection alive (Default: 30)
+     */
+    public static synchronized void configure(int maxConnections, int maxConnectionsPerRoute, long keepAliveSeconds) {
+        HttpService.maxConnections = maxConnections;
+        HttpService.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        HttpService.keepAliveSeconds = keepAliveSeconds;
+        shutdown();
+    }
+
+    /**
+     * Closes the shared HTTP Clients and their pooled connections, a new one is created on the next request
+     */
+    public static synchronized void shutdown() {
+        if (httpClient != null) {
+            httpClient.close(CloseMode.GRACEFUL);
+            httpClient = null;
+        }
+        if (httpAsyncClient != null) {
+            httpAsyncClient.close(CloseMode.GRACEFUL);
+            httpAsyncClient = null;
+        }
+    }
+
+    /**
+     * @param request Is the request to be executed with the shared HTTP Client
+     * @return Returns the response fully read
+     * @throws IOException If the request can't be executed
+     */
+    public static ApiResponse execute(ClassicHttpRequest request) throws IOException {
+        return getHttpClient().execute(request, ApiResponse::of);
+    }
+
+    /**
+     * The Body File is streamed from disk instead of being loaded in memory
+     *
+     * @param request Is the request to be executed with the shared HTTP Client
+     * @return Returns the response fully read
+     * @throws IOException If the request can't be executed
+     */
+    public static ApiResponse execute(ApiRequest request) throws IOException {
+        LOGGER.info("Starting Http{} Service Test for API: {}", request.getMethod(), request.getUrl());
+        return execute(toClassicRequest(request));
+    }
+
+    /**
+     * Streams the response Body to a File instead of keeping it in memory
+     *
+     * @param request    Is the request to be executed with the shared HTTP Client
+     * @param targetFile Is the File where the response Body will be written
+     * @return Returns the response without Body
+     * @throws IOException If the request can't be executed or the File can't be written
+     */
+    public static ApiResponse executeToFile(ApiRequest request, Path targetFile) throws IOException {
+        LOGGER.info("Starting Http{} Service Download for API: {}", request.getMethod(), request.getUrl());
+        return executeStreaming(request, (response, body) -> {
+            Files.copy(body, targetFile, StandardCopyOption.REPLACE_EXISTING);
+            return response;
+        });
+    }
+
+    /**
+     * Reads the response Body as it arrives instead of keeping it in memory, the rest of the Body is discarded when
+     * the reader finishes so the connection can be reused
+     *
+     * @param request    Is the request to be executed with the shared HTTP Client
+     * @param bodyReader Reads the response Body Stream
+     * @param <T>        Type returned by the reader
+     * @return Returns the value returned by the reader
+     * @throws IOException If the request can't be executed or the Body can't be read
+     */
+    public static <T> T executeStreaming(ApiRequest request, BodyReader<T> bodyReader) throws IOException {
+        return getHttpClient().execute(toClassicRequest(request), response -> {
+            HttpEntity entity = response.getEntity();
+            try (InputStream body = entity == null ? InputStream.nullInputStream() : entity.getContent()) {
+                return bodyReader.read(ApiResponse.withoutBody(response), body);
+            }
+        });
+    }
+
+    /**
+     * The Body File is streamed from disk instead of being loaded in memory
+     *
+     * @param request Is the request to be executed with the shared asynchronous HTTP Client
+     * @return Returns the future response fully read, completed with the error when the request can't be built or
+     * executed
+     */
+    public static CompletableFuture<ApiResponse> executeAsync(ApiRequest request) {
+        CompletableFuture<ApiResponse> result = new CompletableFuture<>();
+        AsyncRequestBuilder requestBuilder;
+        try {
+            requestBuilder = AsyncRequestBuilder.create(request.getMethod()).setUri(request.getUrl());
+        } catch (IllegalArgumentException ex) {
+            result.completeExceptionally(ex);
+            return result;
+        }
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            requestBuilder.addHeader(header.getKey(), header.getValue());
+        }
+        if (request.getBodyFileLocation() != null) {
+            File bodyFile = new File(request.getBodyFileLocation());
+            if (!bodyFile.canRead()) {
+                result.completeExceptionally(new IOException("Body File can't be read: " + bodyFile));
+                return result;
+            }
+            requestBuilder.setEntity(AsyncEntityProducers.create(bodyFile, getBodyContentType(request)));
+        }
+        LOGGER.info("Starting Async Http{} Service Test for API: {}", request.getMethod(), request.getUrl());
+        getHttpAsyncClient().execute(requestBuilder.build(), SimpleResponseConsumer.create(), new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                result.complete(ApiResponse.of(response));
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                result.completeExceptionally(ex);
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Executes every request with the asynchronous HTTP Client keeping at most the specified amount in flight
+     *
+     * @param requests       Are the requests to be executed
+     * @param maxConcurrency Is the maximum amount of requests in flight at the same time
+     * @return Returns the responses in the same order, a failed request returns null
+     */
+    public static List<ApiResponse> executeBatch(List<ApiRequest> requests, int maxConcurrency) {
+        Semaphore inFlight = new Semaphore(Math.max(1, maxConcurrency));
+        List<CompletableFuture<ApiResponse>> futures = new ArrayList<>(requests.size());
+        try {
+            for (ApiRequest request : requests) {
+                inFlight.acquire();
+                CompletableFuture<ApiResponse> future;
+                try {
+                    future = executeAsync(request);
+                } catch (RuntimeException ex) {
+                    future = CompletableFuture.failedFuture(ex);
+                }
+                futures.add(future.whenComplete((response, ex) -> inFlight.release()));
+            }
+        } catch (InterruptedException ex) {
+            LOGGER.error("Batch Service interrupted: {}", ex.getMessage());
+            Thread.currentThread().interrupt();
+        }
+        List<ApiResponse> responses = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ApiResponse response = null;
+            if (i < futures.size()) {
+                try {
+                    response = futures.get(i).join();
+                } catch (CompletionException | CancellationException ex) {
+                    LOGGER.error("Batch Service failed for API {}: {}", requests.get(i).getUrl(), ex.getMessage());
+                }
+            }
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private static ClassicHttpRequest toClassicRequest(ApiRequest request) throws IOException {
+        ClassicRequestBuilder requestBuilder = ClassicRequestBuilder.create(request.getMethod()).setUri(request.getUrl());
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            requestBuilder.addHeader(header.getKey(), header.getValue());
+        }
+        if (request.getBodyFileLocation() != null) {
+            File bodyFile = new File(request.getBodyFileLocation());
+            if (!bodyFile.canRead()) {
+                throw new IOException("Body File can't be read: " + bodyFile);
+            }
+            requestBuilder.setEntity(new FileEntity(bodyFile, getBodyContentType(request)));
+        }
+        return requestBuilder.build();
+    }
+
+    /**
+     * @param request Is the request with the Body File
+     * @return Returns the Content Type from the "Content-Type" Header (Default: text/plain with UTF-8)
+     */
+    private static ContentType getBodyContentType(ApiRequest request) {
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(header.getKey())) {
+                return ContentType.parseLenient(header.getValue());
+            }
+        }
+        return DEFAULT_BODY_CONTENT_TYPE;
+    }
+
+    private static CloseableHttpAsyncClient getHttpAsyncClient() {
+        CloseableHttpAsyncClient client = httpAsyncClient;
+        if (client == null) {
+            synchronized (HttpService.class) {
+                client = httpAsyncClient;
+                if (client == null) {
+                    client = createHttpAsyncClient();
+                    client.start();
+                    httpAsyncClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    private static CloseableHttpClient getHttpClient() {
+        CloseableHttpClient client = httpClient;
+        if (client == null) {
+            synchronized (HttpService.class) {
+                client = httpClient;
+                if (client == null) {
+                    client = createHttpClient();
+                    httpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    private static CloseableHttpClient createHttpClient() {
+        LOGGER.info("Creating shared HTTP Client with {} connections ({} per route)", maxConnections, maxConnectionsPerRoute);
+        TimeValue keepAlive = TimeValue.ofSeconds(keepAliveSeconds);
+        return HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnectionsPerRoute)
+                        .build())
+                .setKeepAliveStrategy((response, context) -> DefaultConnectionKeepAliveStrategy.INSTANCE
+                        .getKeepAliveDuration(response, context).min(keepAlive))
+                .evictIdleConnections(keepAlive)
+                .build();
+    }
+
+    private static CloseableHttpAsyncClient createHttpAsyncClient() {
+        LOGGER.info("Creating shared Async HTTP Client with {} connections ({} per route)", maxConnections, maxConnectionsPerRoute);
+        TimeValue keepAlive = TimeValue.ofSeconds(keepAliveSeconds);
+        return HttpAsyncClients.custom()
+                .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnectionsPerRoute)
+                        .build())
+                .setKeepAliveStrategy((response, context) -> DefaultConnectionKeepAliveStrategy.INSTANCE
+                        .getKeepAliveDuration(response, context).min(keepAlive))
+                .evictIdleConnections(keepAlive)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package services;
+
+public enum ParameterScope {
+    /**
+     * Parameters visible from every thread
+     */
+    GLOBAL,
+    /**
+     * Parameters visible from every thread running the same Suite
+     */
+    SUITE,
+    /**
+     * Parameters visible only from the current thread / flow
+     */
+    FLOW
+}
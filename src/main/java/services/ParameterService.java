@@ -1,36 +1,17 @@
 package services;
 
-import org.apache.hc.client5.http.classic.methods.HttpGet;
-import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.client5.http.classic.methods.HttpPut;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.core5.http.HttpResponse;
-import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import javax.crypto.BadPaddingException;
-import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
-import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.security.InvalidKeyException;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
-import java.util.Base64;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public final class ParameterService {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final String ENCRYPT_KEY = "KeyGeneratedByJesusLNV";
-    private static Map<String, String> scDictionary = new HashMap<>();
+    private static final ParameterStore PARAMETER_STORE = new ParameterStore();
 
     private ParameterService() {
     }
@@ -40,15 +21,63 @@ public final class ParameterService {
      * @param parameterValue Is the value of the parameter to be stored
      */
     public static void setParameter(String parameterName, String parameterValue) {
-        scDictionary.put(parameterName, parameterValue);
+        PARAMETER_STORE.set(ParameterScope.GLOBAL, parameterName, parameterValue);
+    }
+
+    /**
+     * @param scope          Is the scope where the parameter will be stored
+     * @param parameterName  Is the name of the parameter to be stored
+     * @param parameterValue Is the value of the parameter to be stored
+     */
+    public static void setParameter(ParameterScope scope, String parameterName, String parameterValue) {
+        PARAMETER_STORE.set(scope, parameterName, parameterValue);
     }
 
     /**
      * @param parameterName Is the name of the parameter to be retrieved
-     * @return Returns the value of the parameter
+     * @return Returns the value of the parameter looking first in the Flow, then in the Suite and then in the Global scope
      */
     public static String getParameter(String parameterName) {
-        return scDictionary.get(parameterName);
+        return PARAMETER_STORE.get(parameterName);
+    }
+
+    /**
+     * @param parameterName Is the name of the parameter to be retrieved
+     * @return Returns the value of the parameter as Integer or null if it doesn't exist
+     */
+    public static Integer getIntParameter(String parameterName) {
+        return PARAMETER_STORE.get(parameterName, Integer.class, Integer::valueOf);
+    }
+
+    /**
+     * @param parameterName Is the name of the parameter to be retrieved
+     * @return Returns the value of the parameter as Long or null if it doesn't exist
+     */
+    public static Long getLongParameter(String parameterName) {
+        return PARAMETER_STORE.get(parameterName, Long.class, Long::valueOf);
+    }
+
+    /**
+     * @param parameterName Is the name of the parameter to be retrieved
+     * @return Returns the value of the parameter as Double or null if it doesn't exist
+     */
+    public static Double getDoubleParameter(String parameterName) {
+        return PARAMETER_STORE.get(parameterName, Double.class, Double::valueOf);
+    }
+
+    /**
+     * @param parameterName Is the name of the parameter to be retrieved
+     * @return Returns the value of the parameter as Boolean or null if it doesn't exist
+     */
+    public static Boolean getBooleanParameter(String parameterName) {
+        return PARAMETER_STORE.get(parameterName, Boolean.class, Boolean::valueOf);
+    }
+
+    /**
+     * @return Returns the shared Parameter Store to manage Suites, scopes and bulk loads
+     */
+    public static ParameterStore getParameterStore() {
+        return PARAMETER_STORE;
     }
 
     /**
@@ -56,18 +85,7 @@ public final class ParameterService {
      * @return Returns the String encrypted
      */
     public static String encryptString(String stringToEncrypt) {
-        String stringEncrypted = null;
-        try {
-            SecretKeySpec secretKeySpec = createCustomSecretKeySpec();
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec);
-            byte[] encrypted = cipher.doFinal(stringToEncrypt.getBytes(StandardCharsets.UTF_8));
-            stringEncrypted = Base64.getEncoder().encodeToString(encrypted);
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | IllegalBlockSizeException |
-                 BadPaddingException ex) {
-            LOGGER.error("Error while encrypting: {}", ex.getMessage());
-        }
-        return stringEncrypted;
+        return CredentialCodec.encrypt(stringToEncrypt);
     }
 
     /**
@@ -75,46 +93,27 @@ public final class ParameterService {
      * @return Returns the String decrypted
      */
     public static String decryptString(String stringToDecrypt) {
-        String stringDecrypted = null;
-        try {
-            SecretKeySpec secretKeySpec = createCustomSecretKeySpec();
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, secretKeySpec);
-            byte[] decrypted = Base64.getDecoder().decode(stringToDecrypt);
-            stringDecrypted = new String(cipher.doFinal(decrypted));
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | IllegalBlockSizeException |
-                 BadPaddingException ex) {
-            LOGGER.error("Error while decrypting: {}", ex.getMessage());
-        }
-        return stringDecrypted;
-    }
-
-    private static SecretKeySpec createCustomSecretKeySpec() {
-        SecretKeySpec secretKeySpec = null;
-        try {
-            MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
-            byte[] tmpKey = messageDigest.digest(ENCRYPT_KEY.getBytes(StandardCharsets.UTF_8));
-            tmpKey = Arrays.copyOf(tmpKey, 16);
-            secretKeySpec = new SecretKeySpec(tmpKey, "AES");
-        } catch (NoSuchAlgorithmException ex) {
-            LOGGER.error("Error creating Custom Key Spec: {}", ex.getMessage());
-        }
-        return secretKeySpec;
+        return CredentialCodec.decrypt(stringToDecrypt);
     }
 
     /**
      * @param url     Is the URL from the API to be tested
      * @param headers Are the Headers from the API to be tested
-     * @return Returns the response from requested Service
+     * @return Returns the response from requested Service fully read, or null if the request failed
      */
-    public static HttpResponse requestGetService(String url, Map<String, String> headers) {
-        HttpGet httpGet = new HttpGet(url);
-        for (Map.Entry<String, String> header : headers.entrySet()) {
-            httpGet.addHeader(header.getKey(), header.getValue());
-        }
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            LOGGER.info("Starting HttpGet Service Test for API: " + url);
-            return httpClient.execute(httpGet);
+    public static ApiResponse requestGetService(String url, Map<String, String> headers) {
+        return requestService(ApiRequest.get(url, headers));
+    }
+
+    /**
+     * @param url                Is the URL from the API to be tested
+     * @param headers            Are the Headers from the API to be tested
+     * @param targetFileLocation Is the File location where the response Body will be streamed
+     * @return Returns the response from requested Service without Body, or null if the request failed
+     */
+    public static ApiResponse requestGetServiceToFile(String url, Map<String, String> headers, String targetFileLocation) {
+        try {
+            return HttpService.executeToFile(ApiRequest.get(url, headers), Paths.get(targetFileLocation));
         } catch (IOException e) {
             LOGGER.error(e.getMessage());
             return null;
@@ -122,48 +121,73 @@ public final class ParameterService {
     }
 
     /**
+     * The Body File is streamed from disk, its Content Type is taken from the "Content-Type" Header (Default: text/plain)
+     *
      * @param url              Is the URL from the API to be tested
      * @param headers          Are the Headers from the API to be tested
      * @param bodyFileLocation Is the Body File location to use
-     * @return Returns the response from requested Service
+     * @return Returns the response from requested Service fully read, or null if the request failed
      */
-    public static HttpResponse requestPostService(String url, Map<String, String> headers, String bodyFileLocation) {
-        HttpPost httpPost = new HttpPost(url);
-        for (Map.Entry<String, String> header : headers.entrySet()) {
-            httpPost.addHeader(header.getKey(), header.getValue());
-        }
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            String body = new String(Files.readAllBytes(Paths.get(bodyFileLocation)));
-            StringEntity stringEntity = new StringEntity(body);
-            httpPost.setEntity(stringEntity);
-            LOGGER.info("Starting HttpPost Service Test for API: " + url);
-            return httpClient.execute(httpPost);
-        } catch (IOException e) {
-            LOGGER.error(e.getMessage());
-            return null;
-        }
+    public static ApiResponse requestPostService(String url, Map<String, String> headers, String bodyFileLocation) {
+        return requestService(ApiRequest.post(url, headers, bodyFileLocation));
     }
 
     /**
+     * The Body File is streamed from disk, its Content Type is taken from the "Content-Type" Header (Default: text/plain)
+     *
      * @param url              Is the URL from the API to be tested
      * @param headers          Are the Headers from the API to be tested
      * @param bodyFileLocation Is the Body File location to use
-     * @return Returns the response from requested Service
+     * @return Returns the response from requested Service fully read, or null if the request failed
      */
-    public static HttpResponse requestPutService(String url, Map<String, String> headers, String bodyFileLocation) {
-        HttpPut httpPut = new HttpPut(url);
-        for (Map.Entry<String, String> header : headers.entrySet()) {
-            httpPut.addHeader(header.getKey(), header.getValue());
-        }
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            String body = new String(Files.readAllBytes(Paths.get(bodyFileLocation)));
-            StringEntity stringEntity = new StringEntity(body);
-            httpPut.setEntity(stringEntity);
-            LOGGER.info("Starting HttpPut Service Test for API: " + url);
-            return httpClient.execute(httpPut);
+    public static ApiResponse requestPutService(String url, Map<String, String> headers, String bodyFileLocation) {
+        return requestService(ApiRequest.put(url, headers, bodyFileLocation));
+    }
+
+    private static ApiResponse requestService(ApiRequest request) {
+        try {
+            return HttpService.execute(request);
         } catch (IOException e) {
             LOGGER.error(e.getMessage());
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * @param url     Is the URL from the API to be tested
+     * @param headers Are the Headers from the API to be tested
+     * @return Returns the future response from requested Service without blocking
+     */
+    public static CompletableFuture<ApiResponse> requestGetServiceAsync(String url, Map<String, String> headers) {
+        return HttpService.executeAsync(ApiRequest.get(url, headers));
+    }
+
+    /**
+     * @param url              Is the URL from the API to be tested
+     * @param headers          Are the Headers from the API to be tested
+     * @param bodyFileLocation Is the Body File location to use
+     * @return Returns the future response from requested Service without blocking
+     */
+    public static CompletableFuture<ApiResponse> requestPostServiceAsync(String url, Map<String, String> headers, String bodyFileLocation) {
+        return HttpService.executeAsync(ApiRequest.post(url, headers, bodyFileLocation));
+    }
+
+    /**
+     * @param url              Is the URL from the API to be tested
+     * @param headers          Are the Headers from the API to be tested
+     * @param bodyFileLocation Is the Body File location to use
+     * @return Returns the future response from requested Service without blocking
+     */
+    public static CompletableFuture<ApiResponse> requestPutServiceAsync(String url, Map<String, String> headers, String bodyFileLocation) {
+        return HttpService.executeAsync(ApiRequest.put(url, headers, bodyFileLocation));
+    }
+
+    /**
+     * @param requests       Are the requests to be executed
+     * @param maxConcurrency Is the maximum amount of requests in flight at the same time
+     * @return Returns the responses in the same order, a failed request returns null
+     */
+    public static List<ApiResponse> requestBatchService(List<ApiRequest> requests, int maxConcurrency) {
+        return HttpService.executeBatch(requests, maxConcurrency);
+    }
+}
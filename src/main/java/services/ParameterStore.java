@@ -0,0 +1,176 @@
+package services;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public final class ParameterStore {
+    private static final String DEFAULT_SUITE = "default";
+    private static final int MAX_PARSED_VALUES = 4096;
+    private final Map<String, String> globalParameters = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> suiteParameters = new ConcurrentHashMap<>();
+    private final InheritableThreadLocal<String> currentSuite = new InheritableThreadLocal<>() {
+        @Override
+        protected String initialValue() {
+            return DEFAULT_SUITE;
+        }
+    };
+    private final ThreadLocal<Map<String, String>> flowParameters = ThreadLocal.withInitial(HashMap::new);
+    private final Map<Class<?>, Map<String, Object>> parsedValues = new ConcurrentHashMap<>();
+
+    /**
+     * Pooled threads keep the Suite of the thread that created them, the FlowExecutor runs every flow with the Suite of
+     * the thread that submits it
+     *
+     * @param suiteName Is the Suite used by the current thread and the threads created from it
+     */
+    public void setSuite(String suiteName) {
+        currentSuite.set(suiteName);
+    }
+
+    /**
+     * @return Returns the Suite used by the current thread
+     */
+    public String getSuite() {
+        return currentSuite.get();
+    }
+
+    /**
+     * @param scope          Is the scope where the parameter will be stored
+     * @param parameterName  Is the name of the parameter to be stored
+     * @param parameterValue Is the value of the parameter to be stored
+     */
+    public void set(ParameterScope scope, String parameterName, String parameterValue) {
+        if (parameterValue == null) {
+            scopeMap(scope).remove(parameterName);
+        } else {
+            scopeMap(scope).put(parameterName, parameterValue);
+        }
+    }
+
+    /**
+     * @param scope         Is the scope where the parameter is stored
+     * @param parameterName Is the name of the parameter to be removed
+     */
+    public void remove(ParameterScope scope, String parameterName) {
+        scopeMap(scope).remove(parameterName);
+    }
+
+    /**
+     * @param scope Is the scope to be cleaned
+     */
+    public void clear(ParameterScope scope) {
+        if (scope == ParameterScope.FLOW) {
+            flowParameters.remove();
+        } else {
+            scopeMap(scope).clear();
+        }
+    }
+
+    /**
+     * @param parameterName Is the name of the parameter to be retrieved
+     * @return Returns the value of the parameter looking first in the Flow, then in the Suite and then in the Global scope
+     */
+    public String get(String parameterName) {
+        String value = flowParameters.get().get(parameterName);
+        if (value == null) {
+            Map<String, String> suite = suiteParameters.get(currentSuite.get());
+            value = suite == null ? null : suite.get(parameterName);
+        }
+        return value == null ? globalParameters.get(parameterName) : value;
+    }
+
+    /**
+     * @param scope         Is the scope where the parameter is stored
+     * @param parameterName Is the name of the parameter to be retrieved
+     * @return Returns the value of the parameter stored in the specified scope
+     */
+    public String get(ParameterScope scope, String parameterName) {
+        return scopeMap(scope).get(parameterName);
+    }
+
+    /**
+     * @param parameterName Is the name of the parameter to be retrieved
+     * @param type          Is the type of the value
+     * @param parser        Converts the stored text into the type, it is called once per different text
+     * @param <T>           Type of the value
+     * @return Returns the parsed value of the parameter or null if it doesn't exist
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String parameterName, Class<T> type, Function<String, T> parser) {
+        String value = get(parameterName);
+        if (value == null) {
+            return null;
+        }
+        Map<String, Object> parsed = parsedValues.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+        Object result = parsed.get(value);
+        if (result == null) {
+            if (parsed.size() >= MAX_PARSED_VALUES) {
+                parsed.clear();
+            }
+            result = parser.apply(value);
+            parsed.put(value, result);
+        }
+        return (T) result;
+    }
+
+    /**
+     * @param scope        Is the scope where the parameters will be stored
+     * @param fileLocation Is the location of the ".properties" file to load
+     * @throws IOException If the file can't be read
+     */
+    public void loadProperties(ParameterScope scope, Path fileLocation) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(fileLocation, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> target = scopeMap(scope);
+        for (String name : properties.stringPropertyNames()) {
+            target.put(name, properties.getProperty(name));
+        }
+    }
+
+    /**
+     * Nested objects are stored using the keys joined by dots (Example: "user.name")
+     *
+     * @param scope        Is the scope where the parameters will be stored
+     * @param fileLocation Is the location of the ".json" file to load
+     * @throws IOException If the file can't be read
+     */
+    public void loadJson(ParameterScope scope, Path fileLocation) throws IOException {
+        Map<String, Object> json;
+        try (Reader reader = Files.newBufferedReader(fileLocation, StandardCharsets.UTF_8)) {
+            json = new Json().toType(reader, Json.MAP_TYPE);
+        }
+        Map<String, String> target = scopeMap(scope);
+        flatten("", json, target);
+    }
+
+    private static void flatten(String prefix, Map<?, ?> values, Map<String, String> target) {
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            String name = prefix + entry.getKey();
+            if (entry.getValue() instanceof Map<?, ?> nested) {
+                flatten(name + ".", nested, target);
+            } else if (entry.getValue() != null) {
+                target.put(name, String.valueOf(entry.getValue()));
+            }
+        }
+    }
+
+    private Map<String, String> scopeMap(ParameterScope scope) {
+        return switch (scope) {
+            case GLOBAL -> globalParameters;
+            case SUITE -> suiteParameters.computeIfAbsent(currentSuite.get(), key -> new ConcurrentHashMap<>());
+            case FLOW -> flowParameters.get();
+        };
+    }
+}
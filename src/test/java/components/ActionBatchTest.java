@@ -0,0 +1,87 @@
+package components;
+
+import components.control.ButtonControl;
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActionBatchTest {
+    private static final String MENU = "//nav[@id='menu']";
+    private static final String ITEM = "//nav[@id='menu']//a[text()='Export']";
+    private static final String SAVE = "//button[@id='save']";
+    private final StubWebDriver stubWebDriver = new StubWebDriver();
+    private final List<List<Object>> prepared = new ArrayList<>();
+    private boolean menuOpen = false;
+
+    @BeforeEach
+    void answerScripts() {
+        stubWebDriver.setVisible(By.xpath(ITEM), false);
+        stubWebDriver.onPerform(() -> {
+            menuOpen = true;
+            stubWebDriver.setVisible(By.xpath(ITEM), true);
+        });
+        stubWebDriver.onScript((script, args) -> {
+            if (script.contains("getClientRects")) {
+                List<?> xPaths = (List<?>) args.get(0);
+                List<?> cssSelectors = (List<?>) args.get(1);
+                List<Object> elements = new ArrayList<>();
+                for (int i = 0; i < xPaths.size(); i++) {
+                    By by = xPaths.get(i) != null ? By.xpath((String) xPaths.get(i)) : By.cssSelector((String) cssSelectors.get(i));
+                    boolean displayed = !ITEM.equals(xPaths.get(i)) || menuOpen;
+                    elements.add(displayed ? stubWebDriver.getWebDriver().findElement(by) : null);
+                }
+                return elements;
+            }
+            if (script.contains("textContent")) {
+                return List.of("second");
+            }
+            prepared.add(args);
+            return new ArrayList<>(Collections.nCopies(((List<?>) args.get(0)).size(), true));
+        });
+    }
+
+    @AfterEach
+    void release() {
+        DriverContext.release(stubWebDriver.getWebDriver());
+    }
+
+    @Test
+    void locatesTheItemOfAMenuAfterTheHover() {
+        ButtonControl menu = new ButtonControl(stubWebDriver.getWebDriver(), MENU, 1);
+        ButtonControl item = new ButtonControl(stubWebDriver.getWebDriver(), ITEM, 1);
+
+        assertTrue(new ActionBatch(stubWebDriver.getWebDriver()).hover(menu).click(item).perform());
+        assertEquals(2, stubWebDriver.getCommandCount("perform"));
+    }
+
+    @Test
+    void performsTheDisplayedControlsInOneChainWithoutScrolling() {
+        ButtonControl menu = new ButtonControl(stubWebDriver.getWebDriver(), MENU, 1);
+        ButtonControl save = new ButtonControl(stubWebDriver.getWebDriver(), SAVE, 1);
+
+        assertTrue(new ActionBatch(stubWebDriver.getWebDriver()).hover(menu).click(save).perform());
+        assertEquals(1, stubWebDriver.getCommandCount("perform"));
+        assertEquals(1, prepared.size());
+        assertEquals(-1, ((Number) prepared.get(0).get(2)).intValue());
+    }
+
+    @Test
+    void cleansAControlAgainWhenItIsTypedAgain() {
+        ButtonControl field = new ButtonControl(stubWebDriver.getWebDriver(), SAVE, 1);
+
+        assertTrue(new ActionBatch(stubWebDriver.getWebDriver()).type(field, "first").type(field, "second").perform());
+        assertEquals(2, stubWebDriver.getCommandCount("perform"));
+        assertEquals(2, prepared.size());
+        assertEquals(List.of(0), prepared.get(0).get(1));
+        assertEquals(List.of(0), prepared.get(1).get(1));
+    }
+}
@@ -0,0 +1,122 @@
+package components;
+
+import components.control.ButtonControl;
+import components.control.TextControl;
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ControlTest {
+    private static final String LABEL = "//main//span[@class='label']";
+    private static final String BUTTON = "//main//button[@type='submit']";
+    private final StubWebDriver stubWebDriver = new StubWebDriver();
+
+    @AfterEach
+    void release() {
+        DriverContext.release(stubWebDriver.getWebDriver());
+    }
+
+    @Test
+    void reusesTheCachedElementUntilItBecomesStale() {
+        stubWebDriver.setText(By.xpath(LABEL), "Ready");
+        TextControl textControl = new TextControl(stubWebDriver.getWebDriver(), LABEL);
+
+        assertEquals("Ready", textControl.getContainedText());
+        assertEquals("Ready", textControl.getContainedText());
+        assertEquals(1, stubWebDriver.getCommandCount("findElement"));
+
+        stubWebDriver.expire(By.xpath(LABEL));
+
+        assertEquals("Ready", textControl.getContainedText());
+        assertEquals(2, stubWebDriver.getCommandCount("findElement"));
+    }
+
+    @Test
+    void locatesTheElementEveryTimeWithoutCache() {
+        TextControl textControl = new TextControl(stubWebDriver.getWebDriver(), LABEL);
+        textControl.setCacheElement(false);
+
+        textControl.getContainedText();
+        textControl.getContainedText();
+
+        assertEquals(2, stubWebDriver.getCommandCount("findElement"));
+    }
+
+    @Test
+    void checksTheViewportAndScrollsWithOneScript() {
+        List<List<Object>> scrolls = new ArrayList<>();
+        stubWebDriver.onScript((script, args) -> {
+            scrolls.add(args.subList(1, args.size()));
+            return null;
+        });
+        ButtonControl buttonControl = new ButtonControl(stubWebDriver.getWebDriver(), BUTTON);
+
+        buttonControl.click();
+        buttonControl.setScrollStrategy(ScrollStrategy.CENTER);
+        buttonControl.click();
+
+        assertEquals(List.of(List.of("IF_NEEDED", 0, 0), List.of("CENTER", 0, 0)), scrolls);
+        assertEquals(2, stubWebDriver.getCommandCount("executeScript"));
+        assertEquals(2, stubWebDriver.getCommandCount("click"));
+    }
+
+    @Test
+    void sendsNoScrollWithoutAutoScroll() {
+        ButtonControl buttonControl = new ButtonControl(stubWebDriver.getWebDriver(), BUTTON);
+        buttonControl.setAutoScroll(false);
+
+        buttonControl.click();
+
+        assertEquals(0, stubWebDriver.getCommandCount("executeScript"));
+        assertEquals(1, stubWebDriver.getCommandCount("click"));
+    }
+
+    @Test
+    void checksThePresenceOfSeveralControlsWithOneScript() {
+        List<List<Object>> checks = new ArrayList<>();
+        stubWebDriver.onScript((script, args) -> {
+            checks.add(args);
+            return Arrays.asList(true, false, null);
+        });
+        Locator chained = Locator.xpath("//li[contains(., 'Logout')]").within(Locator.css("ul.menu"));
+        stubWebDriver.setPresent(chained.getBy(), false);
+        List<Control> controls = List.of(new TextControl(stubWebDriver.getWebDriver(), LABEL),
+                new ButtonControl(stubWebDriver.getWebDriver(), Locator.id("save")),
+                new TextControl(stubWebDriver.getWebDriver(), chained));
+
+        assertEquals(List.of(true, false, false), Control.arePresent(controls));
+        assertEquals(1, stubWebDriver.getCommandCount("executeScript"));
+        assertEquals(Arrays.asList(LABEL, null, null), checks.get(0).get(0));
+        assertEquals(1, stubWebDriver.getCommandCount("findElements"));
+        assertEquals(0, stubWebDriver.getCommandCount("findElement"));
+    }
+
+    @Test
+    void checksThePresenceWithoutTheImplicitWait() {
+        StubWebDriver configured = new StubWebDriver();
+        configured.getWebDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
+        configured.setPresent(By.xpath(LABEL), false);
+        try {
+            TextControl textControl = new TextControl(configured.getWebDriver(), LABEL);
+            long start = System.nanoTime();
+
+            assertFalse(textControl.isPresent());
+            assertTrue(textControl.waitForAbsent(Duration.ofSeconds(5)));
+            assertTrue(System.nanoTime() - start < 1_000_000_000L);
+            assertEquals(Duration.ofSeconds(5), configured.getImplicitWait());
+            assertEquals(5, configured.getCommandCount("implicitlyWait"));
+        } finally {
+            DriverContext.release(configured.getWebDriver());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package components;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DownloadWatcherTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration SHORT_TIMEOUT = Duration.ofMillis(500);
+    @TempDir
+    Path directory;
+
+    @Test
+    void detectsAFileCreatedAfterExpectingIt() throws Exception {
+        try (DownloadWatcher downloadWatcher = new DownloadWatcher(directory)) {
+            CompletableFuture<Path> download = downloadWatcher.expect("report.pdf");
+            Files.writeString(directory.resolve("report.pdf"), "report");
+
+            assertEquals(directory.resolve("report.pdf"), download.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void ignoresTheFileWhileItsPartialCompanionExists() throws Exception {
+        Path file = directory.resolve("report.pdf");
+        Path partial = directory.resolve("report.pdf.part");
+        try (DownloadWatcher downloadWatcher = new DownloadWatcher(directory)) {
+            CompletableFuture<Path> download = downloadWatcher.expect("report.pdf");
+            Files.createFile(file);
+            Files.writeString(partial, "half");
+            assertNull(downloadWatcher.waitForFile("report.pdf", SHORT_TIMEOUT));
+            assertFalse(download.isDone());
+
+            Files.writeString(partial, "half and the rest");
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+
+            assertEquals(file, download.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+            assertEquals("half and the rest", Files.readString(file));
+        }
+    }
+
+    @Test
+    void ignoresAnExistingFileUntilItChanges() throws Exception {
+        Path file = directory.resolve("report.pdf");
+        Files.writeString(file, "previous run");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minusSeconds(60)));
+        try (DownloadWatcher downloadWatcher = new DownloadWatcher(directory)) {
+            assertNull(downloadWatcher.waitForFile("report.pdf", SHORT_TIMEOUT));
+
+            CompletableFuture<Path> download = downloadWatcher.expect("report.pdf");
+            Files.writeString(file, "this run");
+
+            assertEquals(file, download.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void acceptsAFileModifiedSinceTheDownloadStarted() throws IOException {
+        Path file = directory.resolve("report.pdf");
+        Instant startedAt = Instant.now();
+        Files.writeString(file, "this run");
+        try (DownloadWatcher downloadWatcher = new DownloadWatcher(directory)) {
+            assertEquals(file, downloadWatcher.waitForFile("report.pdf", startedAt, TIMEOUT));
+        }
+    }
+
+    @Test
+    void rejectsAFileModifiedBeforeTheDownloadStarted() throws IOException {
+        Path file = directory.resolve("report.pdf");
+        Files.writeString(file, "previous run");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minusSeconds(60)));
+        try (DownloadWatcher downloadWatcher = new DownloadWatcher(directory)) {
+            assertNull(downloadWatcher.waitForFile("report.pdf", Instant.now(), SHORT_TIMEOUT));
+        }
+    }
+
+    @Test
+    void forgetsADownloadThatTimesOut() throws Exception {
+        Path file = directory.resolve("report.pdf");
+        Files.writeString(file, "previous run");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minusSeconds(60)));
+        try (DownloadWatcher downloadWatcher = new DownloadWatcher(directory)) {
+            assertNull(downloadWatcher.waitForFile("report.pdf", SHORT_TIMEOUT));
+
+            CompletableFuture<Path> download = downloadWatcher.expect("report.pdf", Instant.now().minusSeconds(120));
+            assertEquals(file, download.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void waitsForManyDownloadsConcurrently() throws Exception {
+        try (DownloadWatcher downloadWatcher = new DownloadWatcher(directory)) {
+            CompletableFuture<Path> first = downloadWatcher.expect("first.csv");
+            CompletableFuture<Path> second = downloadWatcher.expect("second.csv");
+            Files.writeString(directory.resolve("second.csv"), "2");
+            Files.writeString(directory.resolve("first.csv"), "1");
+
+            CompletableFuture.allOf(first, second).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            assertEquals(directory.resolve("first.csv"), first.get());
+            assertEquals(directory.resolve("second.csv"), second.get());
+        }
+    }
+
+    @Test
+    void cancelsThePendingDownloadsWhenClosed() throws IOException {
+        CompletableFuture<Path> download;
+        try (DownloadWatcher downloadWatcher = new DownloadWatcher(directory)) {
+            download = downloadWatcher.expect("never.zip");
+        }
+        assertTrue(download.isCancelled());
+    }
+
+    @Test
+    void verifiesTheSizeAndTheChecksum() throws IOException {
+        Path file = directory.resolve("hello.txt");
+        Files.write(file, "hello".getBytes(StandardCharsets.UTF_8));
+        String sha256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+        assertEquals(sha256, DownloadWatcher.sha256(file));
+        assertTrue(DownloadWatcher.verify(file, 5, sha256));
+        assertTrue(DownloadWatcher.verify(file, -1, null));
+        assertFalse(DownloadWatcher.verify(file, 6, null));
+        assertFalse(DownloadWatcher.verify(file, 5, sha256.replace('2', '3')));
+    }
+}
@@ -0,0 +1,66 @@
+package components;
+
+import components.metrics.CommandCounter;
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DriverContextTest {
+    private final StubWebDriver stubWebDriver = new StubWebDriver();
+
+    @AfterEach
+    void release() {
+        DriverContext.release(stubWebDriver.getWebDriver());
+    }
+
+    @Test
+    void sharesOneContextPerWebDriver() {
+        DriverContext context = DriverContext.of(stubWebDriver.getWebDriver());
+
+        assertSame(context, DriverContext.of(stubWebDriver.getWebDriver()));
+        assertSame(context.getWait(5), context.getWait(5));
+    }
+
+    @Test
+    void unwrapsTheDecoratorsOfTheWebDriver() {
+        WebDriver counted = new CommandCounter().attach(stubWebDriver.getWebDriver());
+
+        assertSame(stubWebDriver.getWebDriver(), DriverContext.unwrap(counted));
+        assertSame(stubWebDriver.getWebDriver(), DriverContext.unwrap(stubWebDriver.getWebDriver()));
+    }
+
+    @Test
+    void discardsTheContextWhenTheWebDriverIsQuit() {
+        DriverContext context = DriverContext.of(stubWebDriver.getWebDriver());
+
+        DriverContext.quit(stubWebDriver.getWebDriver());
+
+        assertTrue(stubWebDriver.isQuit());
+        assertNotSame(context, DriverContext.of(stubWebDriver.getWebDriver()));
+    }
+
+    @Test
+    void resolvesTheSharedWaitThroughTheTimeoutGovernor() {
+        stubWebDriver.getWebDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
+        DriverContext context = DriverContext.of(stubWebDriver.getWebDriver());
+
+        assertEquals(Duration.ZERO, context.getWait(60).until(driver -> stubWebDriver.getImplicitWait()));
+        assertEquals(Duration.ofSeconds(5), stubWebDriver.getImplicitWait());
+
+        long start = System.nanoTime();
+        try (TimeoutGovernor.Budget ignored = TimeoutGovernor.startBudget(Duration.ofMillis(200))) {
+            assertThrows(TimeoutException.class, () -> context.getWait(60).until(driver -> false));
+        }
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+    }
+}
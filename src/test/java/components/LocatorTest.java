@@ -0,0 +1,70 @@
+package components;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocatorTest {
+    @Test
+    void rewritesSimpleXPathsToIdOrCss() {
+        assertEquals(By.id("save"), Locator.xpath("//*[@id='save']").getBy());
+        assertEquals(By.cssSelector("button[class='save']"), Locator.xpath("//button[@class='save']").getBy());
+        assertEquals(By.cssSelector("[data-testid='name']"), Locator.xpath("//*[@data-testid=\"name\"]").getBy());
+
+        Locator css = Locator.xpath("//button[@class='save']");
+        assertNull(css.getScriptXPath());
+        assertEquals("button[class='save']", css.getScriptCssSelector());
+        assertEquals("//button[@class='save']", css.toString());
+    }
+
+    @Test
+    void keepsTheOtherXPaths() {
+        String xPath = "//div[2]/button[text()='Save']";
+        Locator locator = Locator.xpath(xPath);
+
+        assertEquals(By.xpath(xPath), locator.getBy());
+        assertEquals(xPath, locator.getScriptXPath());
+        assertNull(locator.getScriptCssSelector());
+        assertEquals(By.xpath("//*[@id='a' and @class='b']"), Locator.xpath("//*[@id='a' and @class='b']").getBy());
+    }
+
+    @Test
+    void createsCssIdAndTestIdLocators() {
+        assertEquals(By.cssSelector("form > input"), Locator.css("form > input").getBy());
+        assertEquals(By.id("user"), Locator.id("user").getBy());
+        assertEquals("[id='user']", Locator.id("user").getScriptCssSelector());
+        assertEquals(By.cssSelector("[data-testid='it\\'s']"), Locator.testId("it's").getBy());
+    }
+
+    @Test
+    void makesTheAbsolutePathsRelative() {
+        assertEquals(".//a", Locator.relativeXPath("//a"));
+        assertEquals("./a", Locator.relativeXPath("/a"));
+        assertEquals("(.//a)[1]", Locator.relativeXPath("(//a)[1]"));
+        assertEquals("((.//a))[last()]", Locator.relativeXPath("((//a))[last()]"));
+        assertEquals(".//a | .//b", Locator.relativeXPath("//a | //b"));
+        assertEquals(".//a[@href='//x' or //b]", Locator.relativeXPath("//a[@href='//x' or //b]"));
+        assertEquals("a/b", Locator.relativeXPath("a/b"));
+        assertEquals(".//a", Locator.relativeXPath(".//a"));
+        assertEquals("text()", Locator.relativeXPath("text()"));
+    }
+
+    @Test
+    void rejectsThePathsThatAlwaysSearchTheWholeDocument() {
+        assertThrows(IllegalArgumentException.class, () -> Locator.relativeXPath("id('x')//a"));
+        assertThrows(IllegalArgumentException.class, () -> Locator.xpath("id('x')//a").within(Locator.id("menu")));
+    }
+
+    @Test
+    void searchesInsideTheParent() {
+        Locator child = Locator.xpath("(//a)[1]").within(Locator.id("menu"));
+
+        assertTrue(child.getBy().toString().contains("(.//a)[1]"));
+        assertNull(child.getScriptXPath());
+        assertEquals("#menu >> (//a)[1]", child.toString());
+    }
+}
@@ -0,0 +1,62 @@
+package components;
+
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageTest {
+    private static final String TITLE = "//h1";
+    private static final String STATUS = "//span[@id='status']";
+    private static final String ERROR = "//div[@class='error']";
+    private final StubWebDriver stubWebDriver = new StubWebDriver();
+    private final Page page = new Page(stubWebDriver.getWebDriver()) {
+    };
+
+    @AfterEach
+    void release() {
+        DriverContext.release(stubWebDriver.getWebDriver());
+    }
+
+    @Test
+    void capturesEveryElementWithOneScript() {
+        stubWebDriver.onScript((script, args) -> Arrays.asList(
+                Map.of("visible", true, "text", "Orders", "attributes", Map.of()),
+                Map.of("visible", false, "text", "", "attributes", Map.of("data-state", "done")),
+                null));
+        stubWebDriver.reset();
+
+        PageSnapshot snapshot = page.takeSnapshot(List.of(TITLE, STATUS, ERROR), "data-state");
+
+        assertEquals(1, stubWebDriver.getCommandCount());
+        assertEquals(1, stubWebDriver.getCommandCount("executeScript"));
+        assertEquals(Arrays.asList("Orders", "", null), snapshot.getTexts());
+        assertTrue(snapshot.get(TITLE).isVisible());
+        assertFalse(snapshot.get(STATUS).isVisible());
+        assertEquals("done", snapshot.get(STATUS).getAttribute("data-state"));
+        assertFalse(snapshot.isPresent(ERROR));
+        assertNull(snapshot.getText("//footer"));
+    }
+
+    @Test
+    void capturesTheItemsOfAContainerByPosition() {
+        stubWebDriver.onScript((script, args) -> List.of(
+                Map.of("visible", true, "text", "A1", "attributes", Map.of()),
+                Map.of("visible", true, "text", "B1", "attributes", Map.of())));
+        stubWebDriver.reset();
+
+        PageSnapshot snapshot = page.takeSnapshot("//table[@id='orders']", ".//td");
+
+        assertEquals(1, stubWebDriver.getCommandCount("executeScript"));
+        assertEquals(2, snapshot.size());
+        assertEquals("B1", snapshot.getText("1"));
+    }
+}
@@ -0,0 +1,99 @@
+package components;
+
+import components.control.ButtonControl;
+import components.control.TextControl;
+import components.metrics.ActionMetrics;
+import components.metrics.CsvMetricsSink;
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RetryPolicyTest {
+    private static final String BUTTON = "//main//button[@type='submit']";
+    private static final String LEGACY_LABEL = "//main//span[@class='label']";
+    private static final String LABEL = "//main//span[@data-test='label']";
+    private final StubWebDriver stubWebDriver = new StubWebDriver();
+
+    @AfterEach
+    void release() {
+        DriverContext.release(stubWebDriver.getWebDriver());
+        ActionMetrics.setEnabled(false);
+        ActionMetrics.reset();
+        LocatorHealer.clear();
+    }
+
+    @Test
+    void doublesTheBackoffUpToTheMaximum() {
+        RetryPolicy retryPolicy = RetryPolicy.of(6).withBackoff(50, 300);
+
+        assertEquals(List.of(50L, 100L, 200L, 300L, 300L),
+                List.of(retryPolicy.backoff(1), retryPolicy.backoff(2), retryPolicy.backoff(3), retryPolicy.backoff(4), retryPolicy.backoff(5)));
+    }
+
+    @Test
+    void exportsTheRetriesOfAnAction(@TempDir Path directory) throws Exception {
+        ActionMetrics.reset();
+        ActionMetrics.setEnabled(true);
+        AtomicInteger performs = new AtomicInteger();
+        stubWebDriver.onPerform(() -> {
+            if (performs.incrementAndGet() == 1) {
+                throw new StaleElementReferenceException("Re-rendered");
+            }
+        });
+        ButtonControl buttonControl = new ButtonControl(stubWebDriver.getWebDriver(), BUTTON);
+        buttonControl.setRetryPolicy(RetryPolicy.of(3).withBackoff(0, 0));
+
+        buttonControl.rightClick();
+        Path csv = directory.resolve("metrics.csv");
+        ActionMetrics.export(new CsvMetricsSink(csv));
+
+        assertEquals(2, performs.get());
+        assertEquals(2, stubWebDriver.getCommandCount("findElement"));
+        String line = Files.readAllLines(csv).stream().filter(row -> row.contains(",rightClick,")).findFirst().orElseThrow();
+        assertEquals("1", line.split(",")[9]);
+    }
+
+    @Test
+    void stopsRetryingWhenTheAttemptsAreExhausted() {
+        AtomicInteger performs = new AtomicInteger();
+        stubWebDriver.onPerform(() -> {
+            performs.incrementAndGet();
+            throw new ElementClickInterceptedException("Covered by a toast");
+        });
+        ButtonControl buttonControl = new ButtonControl(stubWebDriver.getWebDriver(), BUTTON);
+        buttonControl.setRetryPolicy(RetryPolicy.of(3).withBackoff(0, 0));
+
+        assertThrows(ElementClickInterceptedException.class, buttonControl::doubleClick);
+        assertEquals(3, performs.get());
+    }
+
+    @Test
+    void triesTheFallbackThatWorkedLastTimeFirst() {
+        stubWebDriver.setPresent(By.xpath(LEGACY_LABEL), false);
+        stubWebDriver.setText(By.xpath(LABEL), "Ready");
+        TextControl first = new TextControl(stubWebDriver.getWebDriver(), LEGACY_LABEL);
+        first.setFallbackLocators(Locator.xpath(LABEL));
+
+        assertEquals("Ready", first.getContainedText());
+        assertEquals(2, stubWebDriver.getCommandCount("findElement"));
+
+        stubWebDriver.reset();
+        TextControl second = new TextControl(stubWebDriver.getWebDriver(), LEGACY_LABEL);
+        second.setFallbackLocators(Locator.xpath(LABEL));
+
+        assertEquals("Ready", second.getContainedText());
+        assertEquals(1, stubWebDriver.getCommandCount("findElement"));
+    }
+}
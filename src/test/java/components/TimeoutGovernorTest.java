@@ -0,0 +1,114 @@
+package components;
+
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.TimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeoutGovernorTest {
+    private final StubWebDriver stubWebDriver = new StubWebDriver();
+    private final TimeoutGovernor timeoutGovernor = DriverContext.of(stubWebDriver.getWebDriver()).getTimeoutGovernor();
+
+    @AfterEach
+    void release() {
+        DriverContext.release(stubWebDriver.getWebDriver());
+    }
+
+    @Test
+    void disablesTheImplicitWaitDefinedInTheWebDriver() {
+        StubWebDriver configured = new StubWebDriver();
+        configured.getWebDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
+        try {
+            TimeoutGovernor governor = DriverContext.of(configured.getWebDriver()).getTimeoutGovernor();
+
+            assertEquals(Duration.ZERO, governor.withoutImplicitWait(configured::getImplicitWait));
+            assertEquals(Duration.ofSeconds(5), configured.getImplicitWait());
+            assertEquals(Duration.ofSeconds(5), governor.getImplicitWait());
+        } finally {
+            DriverContext.release(configured.getWebDriver());
+        }
+    }
+
+    @Test
+    void restoresTheScriptTimeOutAfterRaisingIt() {
+        Duration during = timeoutGovernor.withScriptTimeOut(Duration.ofSeconds(45), stubWebDriver::getScriptTimeOut);
+
+        assertEquals(Duration.ofSeconds(45), during);
+        assertEquals(Duration.ofSeconds(30), stubWebDriver.getScriptTimeOut());
+    }
+
+    @Test
+    void restoresTheScriptTimeOutWhenTheScriptFails() {
+        assertThrows(IllegalStateException.class, () -> timeoutGovernor.withScriptTimeOut(Duration.ofSeconds(45), () -> {
+            throw new IllegalStateException("script failed");
+        }));
+
+        assertEquals(Duration.ofSeconds(30), stubWebDriver.getScriptTimeOut());
+    }
+
+    @Test
+    void keepsALongerScriptTimeOut() {
+        timeoutGovernor.setScriptTimeOut(Duration.ofSeconds(60));
+        stubWebDriver.reset();
+
+        timeoutGovernor.withScriptTimeOut(Duration.ofSeconds(45), () -> null);
+
+        assertEquals(Duration.ofSeconds(60), stubWebDriver.getScriptTimeOut());
+        assertEquals(0, stubWebDriver.getCommandCount("scriptTimeout"));
+    }
+
+    @Test
+    void raisesTheScriptTimeOutOnlyUpToTheFlowBudget() {
+        WaitEngine waitEngine = DriverContext.of(stubWebDriver.getWebDriver()).getWaitEngine();
+        AtomicReference<Duration> during = new AtomicReference<>();
+        stubWebDriver.onScript((script, args) -> {
+            during.set(stubWebDriver.getScriptTimeOut());
+            return true;
+        });
+
+        waitEngine.awaitSettled(WaitPolicy.untilDomSettles(60000));
+        assertEquals(Duration.ofSeconds(62), during.get());
+
+        stubWebDriver.reset();
+        try (TimeoutGovernor.Budget ignored = TimeoutGovernor.startBudget(Duration.ofSeconds(5))) {
+            waitEngine.awaitSettled(WaitPolicy.untilDomSettles(60000));
+        }
+        assertEquals(Duration.ofSeconds(30), during.get());
+        assertEquals(0, stubWebDriver.getCommandCount("scriptTimeout"));
+    }
+
+    @Test
+    void restoresThePreviousBudgetWhenClosed() {
+        try (TimeoutGovernor.Budget outer = TimeoutGovernor.startBudget(Duration.ofSeconds(60))) {
+            try (TimeoutGovernor.Budget inner = TimeoutGovernor.startBudget(Duration.ofSeconds(5))) {
+                assertTrue(TimeoutGovernor.getRemainingBudget().compareTo(Duration.ofSeconds(5)) <= 0);
+            }
+            assertTrue(TimeoutGovernor.getRemainingBudget().compareTo(Duration.ofSeconds(5)) > 0);
+        }
+        assertNull(TimeoutGovernor.getRemainingBudget());
+    }
+
+    @Test
+    void failsTheWaitsOnceTheBudgetIsExhausted() {
+        WaitEngine waitEngine = DriverContext.of(stubWebDriver.getWebDriver()).getWaitEngine();
+        long start = System.nanoTime();
+
+        try (TimeoutGovernor.Budget ignored = TimeoutGovernor.startBudget(Duration.ofMillis(200))) {
+            assertThrows(TimeoutException.class, () -> waitEngine.until(driver -> false, WaitPolicy.ofSeconds(60)));
+        }
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+
+        try (TimeoutGovernor.Budget ignored = TimeoutGovernor.startBudget(Duration.ZERO)) {
+            assertThrows(TimeoutException.class, () -> TimeoutGovernor.clamp(Duration.ofSeconds(60)));
+            assertThrows(TimeoutException.class, () -> waitEngine.until(driver -> true, WaitPolicy.ofSeconds(60)));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package components;
+
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WaitEngineTest {
+    private final StubWebDriver stubWebDriver = new StubWebDriver();
+    private final WaitEngine waitEngine = DriverContext.of(stubWebDriver.getWebDriver()).getWaitEngine();
+
+    @AfterEach
+    void release() {
+        DriverContext.release(stubWebDriver.getWebDriver());
+    }
+
+    @Test
+    void doesNotWaitWithoutASettleTime() {
+        stubWebDriver.reset();
+        long start = System.nanoTime();
+
+        assertTrue(waitEngine.awaitSettled(WaitPolicy.ofSeconds(5)));
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+        assertEquals(0, stubWebDriver.getCommandCount());
+    }
+
+    @Test
+    void resolvesTheSettleTimeWithOneScript() {
+        stubWebDriver.onScript((script, args) -> true);
+
+        assertTrue(waitEngine.awaitSettled(WaitPolicy.untilDomSettles(5000)));
+        assertEquals(1, stubWebDriver.getCommandCount("executeAsyncScript"));
+    }
+}
@@ -0,0 +1,60 @@
+package components;
+
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WindowManagerTest {
+    private final StubWebDriver stubWebDriver = new StubWebDriver();
+    private final WindowManager windowManager = DriverContext.of(stubWebDriver.getWebDriver()).getWindowManager();
+
+    @BeforeEach
+    void answerWindowInfo() {
+        stubWebDriver.onScript((script, args) -> List.of(stubWebDriver.getCurrentTitle(), "https://stub/" + stubWebDriver.getCurrentHandle()));
+    }
+
+    @AfterEach
+    void release() {
+        DriverContext.release(stubWebDriver.getWebDriver());
+    }
+
+    @Test
+    void switchesToACachedTitleWithASingleSwitch() {
+        stubWebDriver.addWindow("report", "Report");
+        stubWebDriver.addWindow("invoice", "Invoice");
+        assertTrue(windowManager.switchToTitle("Invoice"));
+        assertTrue(windowManager.switchToTitle("Main"));
+        stubWebDriver.reset();
+
+        assertTrue(windowManager.switchToTitle("Invoice"));
+        assertEquals("invoice", stubWebDriver.getCurrentHandle());
+        assertEquals(1, stubWebDriver.getCommandCount("window"));
+    }
+
+    @Test
+    void staysInTheOriginalWindowWhenNothingMatches() {
+        stubWebDriver.addWindow("report", "Report");
+
+        assertFalse(windowManager.switchToTitle("Invoice"));
+        assertEquals("main", stubWebDriver.getCurrentHandle());
+    }
+
+    @Test
+    void recordsTheTabsOpenedInOrder() {
+        stubWebDriver.addWindow("report", "Report");
+        String first = windowManager.openTab();
+        String second = windowManager.openTab();
+
+        assertEquals(List.of("main", "report", first, second), windowManager.getHandles());
+        windowManager.switchToTitle("Main");
+        assertTrue(windowManager.switchToLast());
+        assertEquals(second, stubWebDriver.getCurrentHandle());
+    }
+}
@@ -0,0 +1,100 @@
+package components.control;
+
+import components.DriverContext;
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FormControlTest {
+    private static final String FORM = "//main//form[@id='signup']";
+    private final StubWebDriver stubWebDriver = new StubWebDriver();
+    private final List<Object> searchedXPaths = new ArrayList<>();
+    private final List<String> searchedIn = new ArrayList<>();
+    private List<String> previousValues = List.of("", "");
+    private List<String> finalValues = List.of();
+    private boolean written = false;
+
+    @AfterEach
+    void release() {
+        DriverContext.release(stubWebDriver.getWebDriver());
+    }
+
+    /**
+     * Form whose fields answer the previous values until they are written, and the final values afterwards
+     */
+    private FormControl form() {
+        stubWebDriver.setText(By.xpath(FORM), "signup form");
+        stubWebDriver.onPerform(() -> written = true);
+        stubWebDriver.onScript((script, args) -> {
+            if (script.contains("document.evaluate")) {
+                searchedXPaths.addAll((List<?>) args.get(0));
+                searchedIn.add(((WebElement) args.get(1)).getText());
+                List<WebElement> fields = new ArrayList<>();
+                for (Object xPath : (List<?>) args.get(0)) {
+                    fields.add(stubWebDriver.getWebDriver().findElement(By.xpath((String) xPath)));
+                }
+                return fields;
+            }
+            if (script.contains("descriptor.set")) {
+                written = true;
+                return null;
+            }
+            if (script.contains("textContent")) {
+                return written ? finalValues : previousValues;
+            }
+            return null;
+        });
+        return new FormControl(stubWebDriver.getWebDriver(), FORM);
+    }
+
+    private static Map<String, String> fields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("//input[@name='user']", "john");
+        fields.put("(//input[@type='email'])[1]", "john@mail.com");
+        return fields;
+    }
+
+    @Test
+    void searchesTheFieldsInsideTheForm() {
+        FormControl formControl = form();
+        formControl.setScriptValues(true);
+        finalValues = List.of("john", "john@mail.com");
+
+        assertTrue(formControl.fillForm(fields()));
+        assertEquals(List.of(".//input[@name='user']", "(.//input[@type='email'])[1]"), searchedXPaths);
+        assertEquals(List.of("signup form"), searchedIn);
+    }
+
+    @Test
+    void verifiesTheAppendedValuesWithoutCleaning() {
+        FormControl formControl = form();
+        formControl.setScriptValues(true);
+        formControl.setCleanText(false);
+        previousValues = List.of("mr ", "");
+        finalValues = List.of("mr john", "john@mail.com");
+
+        assertTrue(formControl.fillForm(fields()));
+    }
+
+    @Test
+    void failsTheVerificationWithoutCleaning() {
+        FormControl formControl = form();
+        formControl.setScriptValues(true);
+        formControl.setCleanText(false);
+        previousValues = List.of("mr ", "");
+        finalValues = List.of("john", "john@mail.com");
+
+        assertFalse(formControl.fillForm(fields()));
+    }
+}
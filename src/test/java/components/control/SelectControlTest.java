@@ -0,0 +1,153 @@
+package components.control;
+
+import components.DriverContext;
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SelectControlTest {
+    private static final List<String> ITEMS = List.of("//li[1]/input", "//li[2]/input", "//li[3]/input");
+    private final StubWebDriver stubWebDriver = new StubWebDriver();
+    private final boolean[] checked = new boolean[ITEMS.size()];
+    private boolean open = false;
+    private boolean closesOnCheck = false;
+    private int hiddenItem = -1;
+    private boolean rendersLazily = false;
+
+    @AfterEach
+    void release() {
+        DriverContext.release(stubWebDriver.getWebDriver());
+    }
+
+    /**
+     * Select Element whose options are matched and selected by the fast select script, its arguments are recorded
+     */
+    private SelectControl select(List<List<Object>> selections) {
+        stubWebDriver.onScript((script, args) -> {
+            if (!script.contains("select.options")) {
+                return null;
+            }
+            selections.add(args.subList(1, args.size()));
+            return true;
+        });
+        return new SelectControl(stubWebDriver.getWebDriver(), "//form//select[@name='size']");
+    }
+
+    @Test
+    void selectsTheOptionByTextWithOneScript() {
+        List<List<Object>> selections = new ArrayList<>();
+        SelectControl selectControl = select(selections);
+
+        selectControl.selectElement("Medium");
+
+        assertEquals(List.of(List.of("text", List.of("Medium"))), selections);
+        assertEquals(1, stubWebDriver.getCommandCount("findElement"));
+        assertEquals(0, stubWebDriver.getCommandCount("findElements"));
+        assertEquals(0, stubWebDriver.getCommandCount("click"));
+    }
+
+    @Test
+    void selectsTheOptionByValueAndIndexWithOneScriptEach() {
+        List<List<Object>> selections = new ArrayList<>();
+        SelectControl selectControl = select(selections);
+
+        selectControl.selectElementByValue("m");
+        selectControl.selectElementByIndex(2);
+
+        assertEquals(List.of(List.of("value", List.of("m")), List.of("index", List.of("2"))), selections);
+        assertEquals(0, stubWebDriver.getCommandCount("findElements"));
+    }
+
+    @Test
+    void selectsSeveralOptionsWithOneScript() {
+        List<List<Object>> selections = new ArrayList<>();
+        SelectControl selectControl = select(selections);
+        stubWebDriver.reset();
+
+        selectControl.selectElements(List.of("Small", "Large"));
+
+        assertEquals(List.of(List.of("text", List.of("Small", "Large"))), selections);
+        assertEquals(2, stubWebDriver.getCommandCount("executeScript"));
+        assertEquals(0, stubWebDriver.getCommandCount("findElements"));
+        assertEquals(0, stubWebDriver.getCommandCount("click"));
+    }
+
+    /**
+     * Combo opened and closed by every click on it, its items are only displayed while it is open
+     */
+    private SelectControl combo() {
+        stubWebDriver.onPerform(() -> open = !open);
+        stubWebDriver.onScript((script, args) -> {
+            if (!script.contains("isChecked")) {
+                return null;
+            }
+            int next = ((Number) args.get(1)).intValue();
+            for (; Boolean.TRUE.equals(args.get(2)) && next < ITEMS.size() && open && next != hiddenItem; next++) {
+                checked[next] = true;
+                if (closesOnCheck) {
+                    open = false;
+                    next++;
+                    break;
+                }
+            }
+            if (rendersLazily && next == hiddenItem) {
+                hiddenItem = -1;
+            }
+            List<Boolean> states = new ArrayList<>(Collections.nCopies(ITEMS.size(), false));
+            for (int i = 0; i < ITEMS.size(); i++) {
+                states.set(i, checked[i]);
+            }
+            return Map.of("next", next, "displayed", open, "checked", states);
+        });
+        return new SelectControl(stubWebDriver.getWebDriver(), "//div[@id='combo']");
+    }
+
+    @Test
+    void opensTheComboOnceAndClosesItAtTheEnd() {
+        SelectControl selectControl = combo();
+
+        assertTrue(selectControl.selectCheckBoxBatch(ITEMS));
+        assertEquals(2, stubWebDriver.getCommandCount("perform"));
+        assertFalse(open);
+    }
+
+    @Test
+    void opensTheComboAgainOnlyWhenItCloses() {
+        closesOnCheck = true;
+        SelectControl selectControl = combo();
+
+        assertTrue(selectControl.selectCheckBoxBatch(ITEMS));
+        assertEquals(ITEMS.size(), stubWebDriver.getCommandCount("perform"));
+        assertFalse(open);
+    }
+
+    @Test
+    void keepsTheComboOpenWhileItsItemsAreRendered() {
+        hiddenItem = 1;
+        rendersLazily = true;
+        SelectControl selectControl = combo();
+
+        assertTrue(selectControl.selectCheckBoxBatch(ITEMS));
+        assertEquals(2, stubWebDriver.getCommandCount("perform"));
+        assertFalse(open);
+    }
+
+    @Test
+    void stopsWhenAnItemIsNotDisplayedWithTheComboOpen() {
+        hiddenItem = 1;
+        SelectControl selectControl = combo();
+
+        assertFalse(selectControl.selectCheckBoxBatch(ITEMS));
+        assertEquals(2, stubWebDriver.getCommandCount("perform"));
+        assertFalse(open);
+    }
+}
@@ -0,0 +1,52 @@
+package components.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ActionMetricsTest {
+
+    @BeforeEach
+    void enable() {
+        ActionMetrics.reset();
+        ActionMetrics.setEnabled(true);
+    }
+
+    @AfterEach
+    void disable() {
+        ActionMetrics.setEnabled(false);
+        ActionMetrics.reset();
+    }
+
+    @Test
+    void recordsNestedActionsIntoTheirParent() {
+        String value = ActionMetrics.measure("//form", "fill", () -> {
+            ActionMetrics.measure("//input", "setText", ActionMetrics::recordCommand);
+            ActionMetrics.recordCommand();
+            return "done";
+        });
+
+        assertEquals("done", value);
+        assertEquals(2, stats("fill").getCommands());
+        assertEquals(1, stats("setText").getCommands());
+    }
+
+    @Test
+    void recordsActionsFinishedWithAnException() {
+        assertThrows(IllegalStateException.class, () -> ActionMetrics.measure("//button", "click", () -> {
+            throw new IllegalStateException("Not clickable");
+        }));
+
+        assertEquals(1, stats("click").getLatency().getCount());
+    }
+
+    private static ActionStats stats(String action) {
+        List<ActionStats> stats = ActionMetrics.getStats();
+        return stats.stream().filter(actionStats -> actionStats.getAction().equals(action)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,28 @@
+package components.metrics;
+
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CommandCounterTest {
+
+    @Test
+    void countsWindowSwitchesButNotTheHelperGetters() {
+        StubWebDriver stubWebDriver = new StubWebDriver();
+        stubWebDriver.addWindow("report", "Report");
+        CommandCounter commandCounter = new CommandCounter();
+        WebDriver webDriver = commandCounter.attach(stubWebDriver.getWebDriver());
+
+        webDriver.switchTo().window("report");
+        webDriver.manage().window();
+        webDriver.manage().timeouts().implicitlyWait(Duration.ZERO);
+
+        assertEquals(Map.of("implicitlyWait", 1L, "window", 1L), commandCounter.getCommandCounts());
+        assertEquals(stubWebDriver.getCommandCount(), commandCounter.getCommandCount());
+    }
+}
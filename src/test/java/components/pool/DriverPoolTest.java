@@ -0,0 +1,101 @@
+package components.pool;
+
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DriverPoolTest {
+    private static final Duration LEASE_TIMEOUT = Duration.ofMillis(200);
+    private final List<StubWebDriver> created = new ArrayList<>();
+
+    private WebDriver newDriver() {
+        StubWebDriver stubWebDriver = new StubWebDriver();
+        created.add(stubWebDriver);
+        return stubWebDriver.getWebDriver();
+    }
+
+    @Test
+    void reusesTheIdleDriver() {
+        try (DriverPool driverPool = new DriverPool(this::newDriver, 1, 0)) {
+            WebDriver first;
+            try (DriverLease lease = driverPool.lease(LEASE_TIMEOUT)) {
+                first = lease.getWebDriver();
+            }
+            try (DriverLease lease = driverPool.lease(LEASE_TIMEOUT)) {
+                assertSame(first, lease.getWebDriver());
+            }
+        }
+        assertEquals(1, created.size());
+    }
+
+    @Test
+    void waitsForAFreeDriverUntilTheTimeOut() {
+        try (DriverPool driverPool = new DriverPool(this::newDriver, 1, 0);
+             DriverLease lease = driverPool.lease(LEASE_TIMEOUT)) {
+            assertTrue(lease.getWebDriver() != null);
+            assertThrows(TimeoutException.class, () -> driverPool.lease(LEASE_TIMEOUT));
+        }
+    }
+
+    @Test
+    void recyclesTheDriverAfterTheMaximumUses() {
+        try (DriverPool driverPool = new DriverPool(this::newDriver, 1, 2)) {
+            for (int i = 0; i < 3; i++) {
+                driverPool.lease(LEASE_TIMEOUT).close();
+            }
+        }
+        assertEquals(2, created.size());
+        assertTrue(created.get(0).isQuit());
+    }
+
+    @Test
+    void quitsBrokenDrivers() {
+        try (DriverPool driverPool = new DriverPool(this::newDriver, 1, 0)) {
+            try (DriverLease lease = driverPool.lease(LEASE_TIMEOUT)) {
+                lease.markBroken();
+            }
+            assertTrue(created.get(0).isQuit());
+            try (DriverLease lease = driverPool.lease(LEASE_TIMEOUT)) {
+                assertSame(created.get(1).getWebDriver(), lease.getWebDriver());
+            }
+        }
+    }
+
+    @Test
+    void replacesUnhealthyIdleDrivers() {
+        try (DriverPool driverPool = new DriverPool(this::newDriver, 1, 0)) {
+            driverPool.lease(LEASE_TIMEOUT).close();
+            created.get(0).failWith(() -> new WebDriverException("Session lost"));
+            try (DriverLease lease = driverPool.lease(LEASE_TIMEOUT)) {
+                assertNotSame(created.get(0).getWebDriver(), lease.getWebDriver());
+            }
+        }
+        assertEquals(2, created.size());
+    }
+
+    @Test
+    void closeQuitsTheIdleDrivers() {
+        DriverPool driverPool = new DriverPool(this::newDriver, 2, 0);
+        DriverLease first = driverPool.lease(LEASE_TIMEOUT);
+        DriverLease second = driverPool.lease(LEASE_TIMEOUT);
+        first.close();
+        driverPool.close();
+        assertTrue(created.get(0).isQuit());
+        assertFalse(created.get(1).isQuit());
+        second.close();
+        assertTrue(created.get(1).isQuit());
+    }
+}
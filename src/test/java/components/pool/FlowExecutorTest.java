@@ -0,0 +1,116 @@
+package components.pool;
+
+import components.stub.StubWebDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import services.ParameterScope;
+import services.ParameterService;
+import services.ParameterStore;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowExecutorTest {
+    private final List<StubWebDriver> created = new CopyOnWriteArrayList<>();
+
+    private WebDriver newDriver() {
+        StubWebDriver stubWebDriver = new StubWebDriver();
+        created.add(stubWebDriver);
+        return stubWebDriver.getWebDriver();
+    }
+
+    @Test
+    void runsEveryFlowWithItsOwnDriver() {
+        Set<WebDriver> used = ConcurrentHashMap.newKeySet();
+        try (DriverPool driverPool = new DriverPool(this::newDriver, 2, 0);
+             FlowExecutor flowExecutor = new FlowExecutor(driverPool)) {
+            List<Function<WebDriver, Integer>> flows = List.of(
+                    driver -> record(used, driver, 1), driver -> record(used, driver, 2),
+                    driver -> record(used, driver, 3), driver -> record(used, driver, 4));
+            assertEquals(List.of(1, 2, 3, 4), flowExecutor.runAll(flows));
+        }
+        assertTrue(used.size() <= 2);
+        assertTrue(created.size() <= 2);
+    }
+
+    @Test
+    void keepsTheDriverWhenTheFlowFailsOnAnElement() {
+        try (DriverPool driverPool = new DriverPool(this::newDriver, 1, 0);
+             FlowExecutor flowExecutor = new FlowExecutor(driverPool)) {
+            CompletionException failure = assertThrows(CompletionException.class, () -> flowExecutor.submit(driver -> {
+                throw new NoSuchElementException("Missing element");
+            }).join());
+            assertInstanceOf(NoSuchElementException.class, failure.getCause());
+            WebDriver next = flowExecutor.submit(driver -> driver).join();
+            assertSame(created.get(0).getWebDriver(), next);
+            assertFalse(created.get(0).isQuit());
+        }
+    }
+
+    @Test
+    void quitsTheDriverWhenTheSessionIsLost() {
+        try (DriverPool driverPool = new DriverPool(this::newDriver, 1, 0);
+             FlowExecutor flowExecutor = new FlowExecutor(driverPool)) {
+            assertThrows(CompletionException.class, () -> flowExecutor.submit(driver -> {
+                throw new NoSuchSessionException("Session lost");
+            }).join());
+            assertTrue(created.get(0).isQuit());
+            WebDriver next = flowExecutor.submit(driver -> driver).join();
+            assertSame(created.get(1).getWebDriver(), next);
+        }
+    }
+
+    @Test
+    void doesNotShareFlowParametersBetweenFlows() {
+        ParameterStore parameterStore = ParameterService.getParameterStore();
+        try (DriverPool driverPool = new DriverPool(this::newDriver, 1, 0);
+             FlowExecutor flowExecutor = new FlowExecutor(driverPool)) {
+            flowExecutor.submit(driver -> {
+                parameterStore.set(ParameterScope.FLOW, "user", "first");
+                return parameterStore.get("user");
+            }).join();
+            assertNull(flowExecutor.submit(driver -> parameterStore.get("user")).join());
+        }
+    }
+
+    @Test
+    void runsTheFlowWithTheSuiteOfTheSubmittingThread() {
+        ParameterStore parameterStore = ParameterService.getParameterStore();
+        String previousSuite = parameterStore.getSuite();
+        try (DriverPool driverPool = new DriverPool(this::newDriver, 1, 0);
+             FlowExecutor flowExecutor = new FlowExecutor(driverPool)) {
+            parameterStore.setSuite("checkout");
+            parameterStore.set(ParameterScope.SUITE, "env", "staging");
+            assertEquals("staging", flowExecutor.submit(driver -> parameterStore.get("env")).join());
+
+            parameterStore.setSuite("login");
+            parameterStore.set(ParameterScope.SUITE, "env", "production");
+            assertEquals("production", flowExecutor.submit(driver -> parameterStore.get("env")).join());
+            assertEquals("login", parameterStore.getSuite());
+        } finally {
+            parameterStore.clear(ParameterScope.SUITE);
+            parameterStore.setSuite("checkout");
+            parameterStore.clear(ParameterScope.SUITE);
+            parameterStore.setSuite(previousSuite);
+        }
+    }
+
+    private static int record(Set<WebDriver> used, WebDriver driver, int value) {
+        used.add(driver);
+        return value;
+    }
+}
@@ -0,0 +1,357 @@
+package components.stub;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Interactive;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * In-memory WebDriver that answers every remote command locally, counting them and optionally simulating the latency
+ * of a remote session
+ */
+public final class StubWebDriver {
+    private static final Set<Class<?>> LOCAL_TYPES = Set.of(WebDriver.Options.class, WebDriver.Timeouts.class,
+            WebDriver.TargetLocator.class, WebDriver.Navigation.class, WebDriver.Window.class);
+    private final Map<String, LongAdder> commands = new ConcurrentHashMap<>();
+    private final Map<String, String> windows = new LinkedHashMap<>();
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+    private final Set<String> hidden = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> texts = new ConcurrentHashMap<>();
+    private final Map<String, Integer> generations = new ConcurrentHashMap<>();
+    private final WebDriver webDriver;
+    private volatile BiFunction<String, List<Object>, Object> scriptHandler = (script, args) -> null;
+    private volatile Runnable performHandler = () -> {
+    };
+    private volatile Supplier<RuntimeException> failure;
+    private volatile long latencyNanos = 0;
+    private volatile String currentHandle = "main";
+    private volatile Duration implicitWait = Duration.ZERO;
+    private volatile Duration scriptTimeOut = Duration.ofSeconds(30);
+    private volatile Duration pageLoadTimeOut = Duration.ofMinutes(5);
+    private volatile boolean quit = false;
+
+    public StubWebDriver() {
+        windows.put("main", "Main");
+        this.webDriver = proxy(WebDriver.class, this::onDriver, JavascriptExecutor.class, Interactive.class);
+    }
+
+    /**
+     * @return Returns the WebDriver to pass to Pages, Controls and Pools
+     */
+    public WebDriver getWebDriver() {
+        return webDriver;
+    }
+
+    /**
+     * @param latency Time every remote command takes
+     */
+    public void setLatency(Duration latency) {
+        this.latencyNanos = latency.toNanos();
+    }
+
+    /**
+     * @param scriptHandler Answers every executeScript and executeAsyncScript with the script and its arguments
+     */
+    public void onScript(BiFunction<String, List<Object>, Object> scriptHandler) {
+        this.scriptHandler = scriptHandler;
+    }
+
+    /**
+     * @param performHandler Runs every time a chain of W3C Actions is performed
+     */
+    public void onPerform(Runnable performHandler) {
+        this.performHandler = performHandler;
+    }
+
+    /**
+     * @param failure Creates the exception thrown by every remote command, null to stop failing
+     */
+    public void failWith(Supplier<RuntimeException> failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * @param handle Handle of the new window
+     * @param title  Title of the new window
+     */
+    public synchronized void addWindow(String handle, String title) {
+        windows.put(handle, title);
+    }
+
+    /**
+     * @param by      Locator of the Element
+     * @param present Defines if the Element is found
+     */
+    public void setPresent(By by, boolean present) {
+        if (present) {
+            missing.remove(by.toString());
+        } else {
+            missing.add(by.toString());
+        }
+    }
+
+    /**
+     * @param by      Locator of the Element
+     * @param visible Defines if the Element is displayed
+     */
+    public void setVisible(By by, boolean visible) {
+        if (visible) {
+            hidden.remove(by.toString());
+        } else {
+            hidden.add(by.toString());
+        }
+    }
+
+    /**
+     * @param by   Locator of the Element
+     * @param text Text returned by the Element
+     */
+    public void setText(By by, String text) {
+        texts.put(by.toString(), text);
+    }
+
+    /**
+     * @param by Locator of the Element, the Elements already found become stale as if the DOM was re-rendered
+     */
+    public void expire(By by) {
+        generations.merge(by.toString(), 1, Integer::sum);
+    }
+
+    /**
+     * @return Returns the handle of the current window
+     */
+    public String getCurrentHandle() {
+        return currentHandle;
+    }
+
+    /**
+     * @return Returns the title of the current window
+     */
+    public synchronized String getCurrentTitle() {
+        return windows.get(currentHandle);
+    }
+
+    /**
+     * @return Returns the implicit wait currently defined in the session
+     */
+    public Duration getImplicitWait() {
+        return implicitWait;
+    }
+
+    /**
+     * @return Returns the script TimeOut currently defined in the session
+     */
+    public Duration getScriptTimeOut() {
+        return scriptTimeOut;
+    }
+
+    /**
+     * @return Returns "True" if the session was quit
+     */
+    public boolean isQuit() {
+        return quit;
+    }
+
+    /**
+     * @param command Name of the command (Example: findElement)
+     * @return Returns how many times the command was received
+     */
+    public long getCommandCount(String command) {
+        LongAdder count = commands.get(command);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * @return Returns how many remote commands were received
+     */
+    public long getCommandCount() {
+        return commands.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Discards every command counted
+     */
+    public void reset() {
+        commands.clear();
+    }
+
+    private Object onDriver(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "findElement" -> findElement((By) args[0]);
+            case "findElements" -> findElements((By) args[0]);
+            case "executeScript", "executeAsyncScript" -> scriptHandler.apply((String) args[0], scriptArguments(args[1]));
+            case "getTitle" -> getCurrentTitle();
+            case "getCurrentUrl" -> "https://stub/" + currentHandle;
+            case "getWindowHandle" -> currentHandle;
+            case "getWindowHandles" -> windowHandles();
+            case "getPageSource" -> "<html></html>";
+            case "manage" -> proxy(WebDriver.Options.class, this::onOptions);
+            case "switchTo" -> proxy(WebDriver.TargetLocator.class, this::onTargetLocator);
+            case "navigate" -> proxy(WebDriver.Navigation.class, (navigationMethod, navigationArgs) -> null);
+            case "perform" -> {
+                performHandler.run();
+                yield null;
+            }
+            case "quit" -> {
+                quit = true;
+                yield null;
+            }
+            default -> defaultValue(method);
+        };
+    }
+
+    private Object onOptions(Method method, Object[] args) {
+        if (method.getName().equals("timeouts")) {
+            return proxy(WebDriver.Timeouts.class, this::onTimeouts);
+        }
+        return proxy(method.getReturnType(), (optionMethod, optionArgs) -> defaultValue(optionMethod));
+    }
+
+    private Object onTimeouts(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "implicitlyWait" -> implicitWait = (Duration) args[0];
+            case "scriptTimeout", "setScriptTimeout" -> scriptTimeOut = (Duration) args[0];
+            case "pageLoadTimeout" -> pageLoadTimeOut = (Duration) args[0];
+            case "getImplicitWaitTimeout" -> {
+                return implicitWait;
+            }
+            case "getScriptTimeout" -> {
+                return scriptTimeOut;
+            }
+            case "getPageLoadTimeout" -> {
+                return pageLoadTimeOut;
+            }
+            default -> {
+                return null;
+            }
+        }
+        return proxy(WebDriver.Timeouts.class, this::onTimeouts);
+    }
+
+    private Object onTargetLocator(Method method, Object[] args) {
+        if (method.getName().equals("newWindow")) {
+            synchronized (this) {
+                String handle = "window-" + windows.size();
+                windows.put(handle, "New Tab");
+                currentHandle = handle;
+            }
+        } else if (method.getName().equals("window")) {
+            synchronized (this) {
+                if (!windows.containsKey((String) args[0])) {
+                    throw new NoSuchWindowException("No window: " + args[0]);
+                }
+            }
+            currentHandle = (String) args[0];
+        }
+        return method.getReturnType() == WebDriver.class ? webDriver : null;
+    }
+
+    private WebElement findElement(By by) {
+        if (missing.contains(by.toString())) {
+            throw new NoSuchElementException("No element: " + by);
+        }
+        return element(by);
+    }
+
+    private List<WebElement> findElements(By by) {
+        return missing.contains(by.toString()) ? List.of() : List.of(element(by));
+    }
+
+    private WebElement element(By by) {
+        String key = by.toString();
+        int generation = generations.getOrDefault(key, 0);
+        return proxy(WebElement.class, (method, args) -> {
+            if (generations.getOrDefault(key, 0) != generation) {
+                throw new StaleElementReferenceException("Stale element: " + by);
+            }
+            return onElement(key, method, args);
+        });
+    }
+
+    private Object onElement(String key, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "isDisplayed" -> !hidden.contains(key);
+            case "isEnabled" -> true;
+            case "getText" -> texts.getOrDefault(key, "");
+            case "getTagName" -> "div";
+            case "getAttribute", "getDomAttribute", "getDomProperty" -> null;
+            case "findElement" -> findElement((By) args[0]);
+            case "findElements" -> findElements((By) args[0]);
+            default -> defaultValue(method);
+        };
+    }
+
+    private synchronized Set<String> windowHandles() {
+        return new LinkedHashSet<>(windows.keySet());
+    }
+
+    private static List<Object> scriptArguments(Object args) {
+        return args == null ? List.of() : new ArrayList<>(Arrays.asList((Object[]) args));
+    }
+
+    private static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class || type == long.class) {
+            return 0;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, BiFunction<Method, Object[], Object> handler, Class<?>... extraTypes) {
+        Class<?>[] types = new Class<?>[extraTypes.length + 1];
+        types[0] = type;
+        System.arraycopy(extraTypes, 0, types, 1, extraTypes.length);
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "@stub";
+                };
+            }
+            if (method.getParameterCount() > 0 || !LOCAL_TYPES.contains(method.getReturnType())) {
+                commands.computeIfAbsent(method.getName(), key -> new LongAdder()).increment();
+                spin(latencyNanos);
+                Supplier<RuntimeException> currentFailure = failure;
+                if (currentFailure != null) {
+                    throw currentFailure.get();
+                }
+            }
+            return handler.apply(method, args);
+        };
+        return (T) Proxy.newProxyInstance(StubWebDriver.class.getClassLoader(), types, invocationHandler);
+    }
+
+    private static void spin(long latency) {
+        if (latency > 0) {
+            long end = System.nanoTime() + latency;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CredentialCodecTest {
+
+    @Test
+    void keepsTheFormatOfTheValuesAlreadyEncrypted() throws Exception {
+        byte[] key = Arrays.copyOf(MessageDigest.getInstance("SHA-1").digest("KeyGeneratedByJesusLNV".getBytes(StandardCharsets.UTF_8)), 16);
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+        String expected = Base64.getEncoder().encodeToString(cipher.doFinal("s3cret".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(expected, CredentialCodec.encrypt("s3cret"));
+        assertEquals("s3cret", CredentialCodec.decrypt(expected));
+    }
+
+    @Test
+    void reusesTheCipherAfterAnInvalidValue() {
+        assertNull(CredentialCodec.decrypt("not encrypted"));
+        assertNull(CredentialCodec.decrypt(Base64.getEncoder().encodeToString(new byte[5])));
+
+        assertEquals("password", CredentialCodec.decrypt(CredentialCodec.encrypt("password")));
+    }
+
+    @Test
+    void encryptsAndDecryptsInParallelThreads() {
+        List<String> values = IntStream.range(0, 200).mapToObj(i -> "value-" + i).toList();
+
+        List<String> decrypted = values.parallelStream().map(CredentialCodec::encrypt).map(CredentialCodec::decrypt).toList();
+
+        assertEquals(values, decrypted);
+    }
+
+    @Test
+    void decryptsTheParametersOfAFileOnlyWhenUsed(@TempDir Path directory) throws Exception {
+        Path plain = directory.resolve("plain.properties");
+        Path encrypted = directory.resolve("encrypted.properties");
+        Files.writeString(plain, "user=admin\npassword=s3cret\n");
+
+        CredentialCodec.encryptFile(plain, encrypted);
+        Map<String, EncryptedParameter> parameters = CredentialCodec.readEncryptedFile(encrypted);
+
+        assertEquals(Map.of("user", "admin", "password", "s3cret"), CredentialCodec.decryptFile(encrypted));
+        assertEquals(CredentialCodec.encrypt("s3cret"), parameters.get("password").getEncryptedValue());
+        assertEquals("******", parameters.get("password").toString());
+        assertSame(parameters.get("password").get(), parameters.get("password").get());
+        assertEquals("s3cret", parameters.get("password").get());
+    }
+}
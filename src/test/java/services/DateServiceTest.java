@@ -0,0 +1,42 @@
+package services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DateServiceTest {
+    private static final Date DATE = new Date(1_700_000_123_045L);
+
+    @AfterEach
+    void restoreClock() {
+        DateService.setClock(Clock.systemDefaultZone());
+    }
+
+    @Test
+    void formatsLikeSimpleDateFormat() {
+        List<String> patterns = List.of("MM/dd/yyyy", "yyyy-MM-dd'T'HH:mm:ss.SSSZ", "EEEE, MMMM d, yyyy",
+                "u (EEE) dd/MM/yy", "dd/MM/yy hh:mm:ss a", "S 'ms after' ss", "'#'yyyy{MM}[dd]#",
+                "'it''s' yyyy''", "F D k K z XXX", "yyyyMMddHHmmss", "G yyyy MMMMM EEEEE");
+        for (String pattern : patterns) {
+            assertEquals(new SimpleDateFormat(pattern).format(DATE), DateService.getDateTimeFormat(DATE, pattern), pattern);
+        }
+    }
+
+    @Test
+    void rejectsLettersUnknownBySimpleDateFormat() {
+        assertThrows(IllegalArgumentException.class, () -> DateService.getDateTimeFormat(DATE, "QQ/dd/yyyy"));
+        assertThrows(IllegalArgumentException.class, () -> DateService.getDateTimeFormat(DATE, "'dd/MM/yyyy"));
+    }
+
+    @Test
+    void usesTheDefaultFormatForShortPatterns() {
+        assertEquals(new SimpleDateFormat("MM/dd/yyyy").format(DATE), DateService.getDateTimeFormat(DATE, "yyyy"));
+    }
+}
@@ -0,0 +1,208 @@
+package services;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpServiceTest {
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+
+    /**
+     * Local stand-in server, "/item/{n}" answers "n" after (5 - n) * 20 ms so the later requests finish first
+     */
+    @BeforeEach
+    void startServer() throws IOException {
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/hello", exchange -> respond(exchange, 200, "hello"));
+        server.createContext("/item/", exchange -> {
+            int item = Integer.parseInt(exchange.getRequestURI().getPath().substring("/item/".length()));
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(Math.max(0, 5 - item) * 20L);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            respond(exchange, 200, String.valueOf(item));
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        HttpService.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void reusesThePooledConnection() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            ApiResponse response = HttpService.execute(ApiRequest.get(url("/hello"), Map.of()));
+            assertEquals(200, response.getStatusCode());
+            assertEquals("hello", response.getBodyAsString());
+        }
+        assertEquals(1, clientPorts.size());
+    }
+
+    @Test
+    void returnsTheBatchInOrderWithBoundedConcurrency() {
+        List<ApiRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            requests.add(ApiRequest.get(url("/item/" + i), Map.of()));
+        }
+
+        List<ApiResponse> responses = HttpService.executeBatch(requests, 2);
+
+        for (int i = 0; i < 6; i++) {
+            assertEquals(String.valueOf(i), responses.get(i).getBodyAsString());
+        }
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    void returnsNullForTheFailedRequestsOfTheBatch() {
+        List<ApiRequest> requests = List.of(
+                ApiRequest.get(url("/item/1"), Map.of()),
+                ApiRequest.get("http://invalid host/", Map.of()),
+                ApiRequest.post(url("/item/2"), Map.of(), "missing-body-file.json"),
+                ApiRequest.get(url("/item/3"), Map.of()));
+
+        List<ApiResponse> responses = HttpService.executeBatch(requests, 1);
+
+        assertEquals("1", responses.get(0).getBodyAsString());
+        assertNull(responses.get(1));
+        assertNull(responses.get(2));
+        assertEquals("3", responses.get(3).getBodyAsString());
+    }
+
+    @Test
+    void completesTheAsyncResponse() throws Exception {
+        CompletableFuture<ApiResponse> future = HttpService.executeAsync(ApiRequest.get(url("/hello"), Map.of()));
+
+        ApiResponse response = future.get(5, TimeUnit.SECONDS);
+        assertEquals(200, response.getStatusCode());
+        assertEquals("hello", response.getBodyAsString());
+        assertEquals("text/plain; charset=UTF-8", response.getHeader("content-type"));
+    }
+
+    @Test
+    void sendsTheAsyncBodyFile(@TempDir Path directory) throws Exception {
+        Path bodyFile = directory.resolve("body.json");
+        Files.writeString(bodyFile, "{\"name\":\"value\"}");
+        server.createContext("/echo", exchange -> respond(exchange, 201, new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)));
+
+        ApiResponse response = HttpService.executeAsync(ApiRequest.post(url("/echo"), Map.of("Content-Type", "application/json"), bodyFile.toString()))
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(201, response.getStatusCode());
+        assertEquals("{\"name\":\"value\"}", response.getBodyAsString());
+    }
+
+    @Test
+    void propagatesTheAsyncErrors() throws IOException {
+        int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            closedPort = serverSocket.getLocalPort();
+        }
+        String closedUrl = "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + closedPort + "/hello";
+
+        ExecutionException refused = assertThrows(ExecutionException.class,
+                () -> HttpService.executeAsync(ApiRequest.get(closedUrl, Map.of())).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, refused.getCause());
+        ExecutionException missingFile = assertThrows(ExecutionException.class,
+                () -> HttpService.executeAsync(ApiRequest.post(url("/hello"), Map.of(), "missing-body-file.json")).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, missingFile.getCause());
+        ExecutionException invalidUrl = assertThrows(ExecutionException.class,
+                () -> HttpService.executeAsync(ApiRequest.get("http://invalid host/", Map.of())).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, invalidUrl.getCause());
+    }
+
+    @Test
+    void streamsALargeBodyAsItArrives() throws IOException {
+        int chunks = 512;
+        byte[] chunk = new byte[64 * 1024];
+        Arrays.fill(chunk, (byte) 'x');
+        server.createContext("/large", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                for (int i = 0; i < chunks; i++) {
+                    outputStream.write(chunk);
+                }
+            }
+        });
+
+        long read = HttpService.executeStreaming(ApiRequest.get(url("/large"), Map.of()), (response, body) -> {
+            assertEquals(200, response.getStatusCode());
+            assertEquals(0, response.getBody().length);
+            byte[] buffer = new byte[8 * 1024];
+            long total = 0;
+            for (int count = body.read(buffer); count != -1; count = body.read(buffer)) {
+                total += count;
+            }
+            return total;
+        });
+
+        assertEquals((long) chunks * chunk.length, read);
+    }
+
+    @Test
+    void streamsTheBodyToAFile(@TempDir Path directory) throws IOException {
+        Path target = directory.resolve("hello.txt");
+
+        ApiResponse response = HttpService.executeToFile(ApiRequest.get(url("/hello"), Map.of()), target);
+        assertEquals(200, response.getStatusCode());
+        assertEquals("hello", Files.readString(target));
+    }
+
+    private String url(String path) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + path;
+    }
+
+    private void respond(HttpExchange exchange, int statusCode, String body) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
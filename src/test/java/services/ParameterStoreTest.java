@@ -0,0 +1,78 @@
+package services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ParameterStoreTest {
+    private final ParameterStore parameterStore = new ParameterStore();
+
+    @Test
+    void resolvesTheFlowThenTheSuiteThenTheGlobalScope() {
+        parameterStore.set(ParameterScope.GLOBAL, "user", "global");
+        assertEquals("global", parameterStore.get("user"));
+
+        parameterStore.set(ParameterScope.SUITE, "user", "suite");
+        assertEquals("suite", parameterStore.get("user"));
+
+        parameterStore.set(ParameterScope.FLOW, "user", "flow");
+        assertEquals("flow", parameterStore.get("user"));
+
+        parameterStore.clear(ParameterScope.FLOW);
+        assertEquals("suite", parameterStore.get("user"));
+        parameterStore.remove(ParameterScope.SUITE, "user");
+        assertEquals("global", parameterStore.get("user"));
+        assertEquals("global", parameterStore.get(ParameterScope.GLOBAL, "user"));
+    }
+
+    @Test
+    void keepsTheParametersOfEverySuiteApart() {
+        parameterStore.setSuite("checkout");
+        parameterStore.set(ParameterScope.SUITE, "env", "staging");
+        parameterStore.setSuite("login");
+        assertNull(parameterStore.get("env"));
+
+        parameterStore.set(ParameterScope.SUITE, "env", "production");
+        parameterStore.setSuite("checkout");
+        assertEquals("staging", parameterStore.get("env"));
+        assertEquals("checkout", parameterStore.getSuite());
+    }
+
+    @Test
+    void isolatesTheFlowParametersAndSuitesOfConcurrentThreads() throws Exception {
+        parameterStore.set(ParameterScope.GLOBAL, "shared", "global");
+        int threads = 8;
+        CountDownLatch written = new CountDownLatch(threads);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                String name = "flow-" + i;
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    parameterStore.setSuite(name);
+                    parameterStore.set(ParameterScope.SUITE, "suite", name);
+                    parameterStore.set(ParameterScope.FLOW, "flow", name);
+                    written.countDown();
+                    try {
+                        written.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    assertEquals(name, parameterStore.get("suite"));
+                    assertEquals(name, parameterStore.get("flow"));
+                    assertEquals("global", parameterStore.get("shared"));
+                }, executorService);
+            }
+            CompletableFuture.allOf(futures).get();
+        } finally {
+            executorService.shutdown();
+        }
+        assertNull(parameterStore.get("flow"));
+    }
+}